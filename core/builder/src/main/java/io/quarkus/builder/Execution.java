@@ -3,11 +3,22 @@ package io.quarkus.builder;
 import static java.lang.Math.max;
 import static java.util.concurrent.locks.LockSupport.*;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +37,12 @@ final class Execution {
 
     static final Logger log = Logger.getLogger("io.quarkus.builder");
 
+    /**
+     * Steps which are ready to run, the ones heading the longest chain of dependents first.
+     */
+    private static final Comparator<BuildContext> READY_STEP_ORDER = Comparator
+            .comparingInt((BuildContext context) -> context.getStepInfo().getCriticalPathLength()).reversed();
+
     private final BuildChain chain;
     private final ConcurrentHashMap<ItemId, BuildItem> singles;
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multis;
@@ -36,6 +53,9 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final PriorityBlockingQueue<BuildContext> readySteps = new PriorityBlockingQueue<>(16, READY_STEP_ORDER);
+    private final String traceOutput;
+    private final ConcurrentHashMap<StepInfo, StepTiming> stepTimings;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -59,6 +79,8 @@ final class Execution {
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
         executor = executorBuilder.build();
+        traceOutput = System.getProperty("jboss.builder.trace-output");
+        stepTimings = traceOutput != null || log.isDebugEnabled() ? new ConcurrentHashMap<>() : null;
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
             done = true;
@@ -82,7 +104,7 @@ final class Execution {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -110,6 +132,9 @@ final class Execution {
                 if (intr)
                     Thread.currentThread().interrupt();
             }
+        if (stepTimings != null) {
+            reportStepTimings(start);
+        }
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.getLevel() == Diagnostic.Level.ERROR) {
                 BuildException failed = new BuildException("Build failed due to errors", diagnostic.getThrown(),
@@ -128,6 +153,160 @@ final class Execution {
                 max(0, System.nanoTime() - start));
     }
 
+    /**
+     * Schedule a step whose dependencies have all finished. If more steps are ready than there are idle threads, the
+     * steps on the longest chains of dependents are started first.
+     *
+     * @param buildContext the context of the step to run
+     */
+    void schedule(BuildContext buildContext) {
+        readySteps.add(buildContext);
+        executor.execute(this::runNextStep);
+    }
+
+    private void runNextStep() {
+        final BuildContext next = readySteps.poll();
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo, long startNanos, long endNanos) {
+        if (stepTimings != null) {
+            stepTimings.put(stepInfo, new StepTiming(startNanos, endNanos, Thread.currentThread()));
+        }
+    }
+
+    private void reportStepTimings(long buildStart) {
+        if (log.isDebugEnabled()) {
+            // the longest chain of steps, weighted by the time each step took
+            final Map<StepInfo, Long> pathNanos = new HashMap<>();
+            StepInfo first = null;
+            long total = -1;
+            for (StepInfo startStep : chain.getStartSteps()) {
+                final long nanos = criticalPathNanos(startStep, pathNanos);
+                if (nanos > total) {
+                    total = nanos;
+                    first = startStep;
+                }
+            }
+            final StringBuilder b = new StringBuilder();
+            StepInfo current = first;
+            while (current != null) {
+                final StepTiming timing = stepTimings.get(current);
+                if (b.length() > 0) {
+                    b.append(" -> ");
+                }
+                b.append(current.getBuildStep()).append(" (")
+                        .append(timing == null ? 0 : TimeUnit.NANOSECONDS.toMillis(timing.end - timing.start))
+                        .append(" ms)");
+                StepInfo next = null;
+                long nextNanos = -1;
+                for (StepInfo dependent : current.getDependents()) {
+                    final long nanos = pathNanos.get(dependent);
+                    if (nanos > nextNanos) {
+                        nextNanos = nanos;
+                        next = dependent;
+                    }
+                }
+                current = next;
+            }
+            log.debugf("Critical path of the build took %d ms: %s", TimeUnit.NANOSECONDS.toMillis(total), b);
+        }
+        if (traceOutput != null && !traceOutput.isEmpty()) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(traceOutput), StandardCharsets.UTF_8)) {
+                writeTrace(writer, buildStart);
+            } catch (IOException ioe) {
+                throw new RuntimeException("Failed to write build trace output", ioe);
+            }
+        }
+    }
+
+    private long criticalPathNanos(StepInfo stepInfo, Map<StepInfo, Long> pathNanos) {
+        // iterative post-order traversal as the chains of steps can be long
+        final Deque<StepInfo> stack = new ArrayDeque<>();
+        stack.push(stepInfo);
+        while (!stack.isEmpty()) {
+            final StepInfo current = stack.peek();
+            if (pathNanos.containsKey(current)) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            long longest = 0;
+            for (StepInfo dependent : current.getDependents()) {
+                final Long nanos = pathNanos.get(dependent);
+                if (nanos == null) {
+                    stack.push(dependent);
+                    ready = false;
+                } else {
+                    longest = max(longest, nanos);
+                }
+            }
+            if (ready) {
+                stack.pop();
+                final StepTiming timing = stepTimings.get(current);
+                pathNanos.put(current, longest + (timing == null ? 0 : timing.end - timing.start));
+            }
+        }
+        return pathNanos.get(stepInfo);
+    }
+
+    /**
+     * Write the step timings in the Chrome trace event format, which can be loaded in {@code chrome://tracing} or
+     * <a href="https://ui.perfetto.dev">Perfetto</a>.
+     */
+    private void writeTrace(Writer writer, long buildStart) throws IOException {
+        writer.write("{\"traceEvents\":[");
+        final Map<Thread, Long> threads = new HashMap<>();
+        boolean first = true;
+        for (Map.Entry<StepInfo, StepTiming> entry : stepTimings.entrySet()) {
+            final StepTiming timing = entry.getValue();
+            final Long tid = threads.computeIfAbsent(timing.thread, t -> (long) threads.size() + 1);
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":");
+            writeJsonString(writer, entry.getKey().getBuildStep().toString());
+            writer.write(",\"cat\":\"build-step\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+            writer.write(tid.toString());
+            writer.write(",\"ts\":");
+            writer.write(Long.toString(TimeUnit.NANOSECONDS.toMicros(timing.start - buildStart)));
+            writer.write(",\"dur\":");
+            writer.write(Long.toString(TimeUnit.NANOSECONDS.toMicros(timing.end - timing.start)));
+            writer.write('}');
+        }
+        for (Map.Entry<Thread, Long> entry : threads.entrySet()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+            writer.write(entry.getValue().toString());
+            writer.write(",\"args\":{\"name\":");
+            writeJsonString(writer, entry.getKey().getName());
+            writer.write("}}");
+        }
+        writer.write("\n]}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -164,4 +343,16 @@ final class Execution {
             unpark(runningThread);
         }
     }
+
+    static final class StepTiming {
+        final long start;
+        final long end;
+        final Thread thread;
+
+        StepTiming(final long start, final long end, final Thread thread) {
+            this.start = start;
+            this.end = end;
+            this.thread = thread;
+        }
+    }
 }
@@ -10,6 +10,7 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final int criticalPathLength;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
@@ -17,6 +18,11 @@ final class StepInfo {
         produces = builder.getRealProduces();
         this.dependencies = dependencies;
         this.dependents = dependents;
+        int longestDependentPath = 0;
+        for (StepInfo dependent : dependents) {
+            longestDependentPath = Math.max(longestDependentPath, dependent.getCriticalPathLength());
+        }
+        criticalPathLength = longestDependentPath + 1;
     }
 
     BuildStep getBuildStep() {
@@ -38,4 +44,13 @@ final class StepInfo {
     Set<ItemId> getProduces() {
         return produces;
     }
+
+    /**
+     * Get the number of steps in the longest chain of dependents starting with (and including) this step.
+     *
+     * @return the length of the longest chain of dependents
+     */
+    int getCriticalPathLength() {
+        return criticalPathLength;
+    }
 }
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -288,4 +292,37 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testTraceOutput() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "produce \"dummy\"";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem.class);
+        final BuildChain chain = builder.build();
+        final Path trace = Files.createTempFile("build-trace", ".json");
+        System.setProperty("jboss.builder.trace-output", trace.toString());
+        try {
+            chain.createExecutionBuilder("my-app.jar").execute();
+            final String content = new String(Files.readAllBytes(trace), StandardCharsets.UTF_8);
+            assertTrue(content.startsWith("{\"traceEvents\":["), content);
+            assertTrue(content.contains("{\"name\":\"produce \\\"dummy\\\"\",\"cat\":\"build-step\",\"ph\":\"X\""),
+                    content);
+            assertTrue(content.contains("\"thread_name\""), content);
+        } finally {
+            System.clearProperty("jboss.builder.trace-output");
+            Files.delete(trace);
+        }
+    }
 }
@@ -6,12 +6,14 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.ProviderNotFoundException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -36,9 +38,12 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -51,6 +56,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    BuildCacheConfiguration buildCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -64,6 +71,27 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class BuildCacheConfiguration {
+        /**
+         * Whether the indexes of the application dependencies that don't contain a {@code META-INF/jandex.idx} file
+         * should be stored on disk and reused by subsequent builds.
+         * <p>
+         * An index is invalidated when the path, size or last modification time of the dependency changes, or when
+         * Quarkus is updated. The indexes that have not been used for a week are removed from the cache.
+         * Defaults to {@code true} in dev mode and {@code false} otherwise.
+         */
+        @ConfigItem
+        Optional<Boolean> enabled;
+
+        /**
+         * The directory in which the build cache is stored. Defaults to {@code quarkus-build-cache} in the build output
+         * directory.
+         */
+        @ConfigItem
+        Optional<String> directory;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -80,7 +108,9 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
-            CurateOutcomeBuildItem curateOutcomeBuildItem) throws IOException {
+            CurateOutcomeBuildItem curateOutcomeBuildItem,
+            OutputTargetBuildItem outputTarget,
+            LaunchModeBuildItem launchMode) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -92,11 +122,21 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        if (buildCacheConfig.enabled.orElse(launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT)) {
+            indexCache.persistentCache = new PersistentIndexCache(buildCacheConfig.directory.map(Paths::get)
+                    .orElseGet(() -> outputTarget.getOutputDirectory().resolve("quarkus-build-cache")));
+        } else {
+            indexCache.persistentCache = null;
+        }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 Thread.currentThread().getContextClassLoader(),
                 markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
                 curateOutcomeBuildItem);
+        if (indexCache.persistentCache != null) {
+            indexCache.persistentCache.logStatistics();
+            indexCache.persistentCache.pruneUnusedEntries();
+        }
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getRootDirs(), root.getPaths(), null),
                 applicationArchives);
@@ -261,11 +301,12 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static Index handleJarPath(Path path, IndexCache indexCache) {
+        final PersistentIndexCache persistentCache = indexCache.persistentCache;
         return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path);
+                    return persistentCache != null ? persistentCache.indexJar(path) : IndexingUtil.indexJar(path);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -281,5 +322,10 @@ public class ApplicationArchiveBuildStep {
 
         final Map<Path, Index> cache = new HashMap<>();
 
+        /**
+         * The on-disk cache used for the jars that are not in {@link #cache} yet, or {@code null} if disabled.
+         */
+        PersistentIndexCache persistentCache;
+
     }
 }
@@ -0,0 +1,159 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Stores the Jandex indexes of dependency jars on disk so that subsequent builds don't need to index them again.
+ * <p>
+ * An index is keyed by the path, size and last modification time of the jar, and by the Quarkus and Jandex versions
+ * used to build it. Each cache file also records how long the jar took to index, which is used to report the time saved
+ * by the cache. Reading an index refreshes the last modification time of its cache file, and the cache files that
+ * have not been used for {@link #MAX_UNUSED_AGE_MILLIS} are removed.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    static final long MAX_UNUSED_AGE_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private final Path directory;
+    private final String version;
+    private int hits;
+    private int misses;
+    private long savedNanos;
+
+    PersistentIndexCache(Path directory) {
+        this(directory, Version.getVersion() + "|" + Index.class.getPackage().getImplementationVersion());
+    }
+
+    /**
+     * @param version identifies the code that produces the indexes, the indexes stored with another version are not used
+     */
+    PersistentIndexCache(Path directory, String version) {
+        this.directory = directory;
+        this.version = version;
+    }
+
+    Index indexJar(Path jar) throws IOException {
+        final Path cacheFile = directory.resolve(cacheKey(jar) + SUFFIX);
+        if (Files.exists(cacheFile)) {
+            final long start = System.nanoTime();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+                final long indexingNanos = in.readLong();
+                final Index index = new IndexReader(in).read();
+                hits++;
+                savedNanos += Math.max(0, indexingNanos - (System.nanoTime() - start));
+                markAsUsed(cacheFile);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                log.debugf(e, "Ignoring unreadable cached index %s of %s", cacheFile, jar);
+            }
+        }
+        misses++;
+        final long start = System.nanoTime();
+        final Index index = IndexingUtil.indexJar(jar);
+        store(cacheFile, index, System.nanoTime() - start);
+        return index;
+    }
+
+    void logStatistics() {
+        if (hits + misses > 0) {
+            log.infof("Loaded %d of %d dependency indexes from the build cache in %s, saving ~%d ms", hits, hits + misses,
+                    directory, TimeUnit.NANOSECONDS.toMillis(savedNanos));
+        }
+    }
+
+    /**
+     * Removes the cache files that have not been used for {@link #MAX_UNUSED_AGE_MILLIS}, such as the indexes of
+     * dependencies that were updated or removed. Nothing is done if this cache was not used by the build, e.g. on a dev
+     * mode reload that reuses the indexes kept in memory.
+     */
+    void pruneUnusedEntries() {
+        if (hits + misses == 0 || !Files.isDirectory(directory)) {
+            return;
+        }
+        final long oldest = System.currentTimeMillis() - MAX_UNUSED_AGE_MILLIS;
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                final String name = file.getFileName().toString();
+                if ((name.endsWith(SUFFIX) || name.endsWith(TMP_SUFFIX))
+                        && Files.getLastModifiedTime(file).toMillis() < oldest) {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to remove the unused entries of the build cache %s", directory);
+        }
+        if (removed > 0) {
+            log.debugf("Removed %d unused entries from the build cache %s", removed, directory);
+        }
+    }
+
+    int getHits() {
+        return hits;
+    }
+
+    int getMisses() {
+        return misses;
+    }
+
+    private void store(Path cacheFile, Index index, long indexingNanos) {
+        try {
+            Files.createDirectories(directory);
+            // write to a temporary file first so that concurrent builds never read a partial index
+            final Path tmp = Files.createTempFile(directory, "index", TMP_SUFFIX);
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeLong(indexingNanos);
+                    new IndexWriter(out).write(index);
+                }
+                try {
+                    Files.move(tmp, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to store the index of %s in the build cache", cacheFile);
+        }
+    }
+
+    private static void markAsUsed(Path cacheFile) {
+        try {
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debugf(e, "Failed to update the last modification time of %s", cacheFile);
+        }
+    }
+
+    private String cacheKey(Path jar) throws IOException {
+        return HashUtil.sha1(version + "|" + jar.toAbsolutePath() + "|" + Files.size(jar) + "|"
+                + Files.getLastModifiedTime(jar).toMillis());
+    }
+}
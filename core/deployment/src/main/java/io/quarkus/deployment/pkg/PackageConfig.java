@@ -94,6 +94,17 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> appcdsBuilderImage;
 
+    /**
+     * Whether to record the classes loaded while the application starts, and to load them in a background thread
+     * when the application is launched. This only applies to the fast-jar and mutable-jar formats.
+     * <p>
+     * The classes are recorded by starting the packaged application once at the end of the build, in the same way as
+     * when AppCDS is created. The list is stored in {@code quarkus/preload-classes.lst} and can be deleted to
+     * disable preloading. This is mostly beneficial on slow disks and with more than one CPU available.
+     */
+    @ConfigItem
+    public boolean preloadClasses;
+
     /**
      * This is an advanced option that only takes effect for the mutable-jar format.
      * <p>
@@ -116,6 +127,15 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true the {@code lib} directory
+     * of the previous build is kept, and only the dependencies that were added or changed since (based on their size
+     * and last modification time) are copied into it. Dependencies that are no longer part of the application are
+     * removed.
+     */
+    @ConfigItem
+    public boolean incrementalLib;
+
     /**
      * Fernflower Decompiler configuration
      */
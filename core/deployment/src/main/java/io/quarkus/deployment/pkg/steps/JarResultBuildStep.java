@@ -39,6 +39,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -468,8 +473,9 @@ public class JarResultBuildStep {
         if (packageConfig.userProvidersDirectory.isPresent()) {
             userProviders = buildDir.resolve(packageConfig.userProvidersDirectory.get());
         }
+        boolean incremental = packageConfig.incrementalLib && !rebuild;
         if (!rebuild) {
-            IoUtils.createOrEmptyDir(buildDir);
+            prepareBuildDir(buildDir, libDir, incremental);
             Files.createDirectories(mainLib);
             Files.createDirectories(baseLib);
             Files.createDirectories(appDir);
@@ -507,83 +513,100 @@ public class JarResultBuildStep {
 
         List<Path> jars = new ArrayList<>();
         List<Path> bootJars = new ArrayList<>();
-        //we process in order of priority
-        //transformed classes first
-        if (!transformedClasses.getTransformedClassesByJar().isEmpty()) {
-            Path transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
-            jars.add(transformedZip);
-            try (FileSystem out = ZipUtils.newZip(transformedZip)) {
-                for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
-                        .getTransformedClassesByJar().values()) {
-                    for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
-                        Path target = out.getPath(transformed.getFileName());
-                        if (target.getParent() != null) {
-                            Files.createDirectories(target.getParent());
+        //now the application classes
+        Path runnerJar = appDir
+                .resolve(outputTargetBuildItem.getBaseName() + ".jar");
+        StringBuilder classPath = new StringBuilder();
+        // the generated jars, the application jar and the dependencies are written in parallel,
+        // while the class path is still assembled in order of priority
+        final ExecutorService executorPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        final List<Future<?>> tasks = new ArrayList<>();
+        try {
+            //we process in order of priority
+            //transformed classes first
+            Path transformedZip = null;
+            if (!transformedClasses.getTransformedClassesByJar().isEmpty()) {
+                transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
+                jars.add(transformedZip);
+                final Path target = transformedZip;
+                tasks.add(executorPool.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        try (FileSystem out = ZipUtils.newZip(target)) {
+                            for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
+                                    .getTransformedClassesByJar().values()) {
+                                for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
+                                    write(out, transformed.getFileName(), transformed.getData());
+                                }
+                            }
                         }
-                        Files.write(target, transformed.getData());
+                        return null;
                     }
-                }
+                }));
             }
-            if (fernflowerJar != null) {
-                wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, transformedZip);
+            //now generated classes and resources
+            Path generatedZip = quarkus.resolve(GENERATED_BYTECODE_JAR);
+            jars.add(generatedZip);
+            tasks.add(executorPool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    try (FileSystem out = ZipUtils.newZip(generatedZip)) {
+                        for (GeneratedClassBuildItem i : generatedClasses) {
+                            write(out, i.getName().replace(".", "/") + ".class", i.getClassData());
+                        }
+                        for (GeneratedResourceBuildItem i : generatedResources) {
+                            write(out, i.getName(), i.getClassData());
+                        }
+                    }
+                    return null;
+                }
+            }));
+
+            jars.add(runnerJar);
+            if (!rebuild) {
+                Set<String> finalIgnoredEntries = new HashSet<>(IGNORED_ENTRIES);
+                packageConfig.userConfiguredIgnoredEntries.ifPresent(finalIgnoredEntries::addAll);
+                tasks.add(executorPool.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+                            for (Path root : applicationArchivesBuildItem.getRootArchive().getRootDirs()) {
+                                copyFiles(root, runnerZipFs, null, finalIgnoredEntries);
+                            }
+                        }
+                        return null;
+                    }
+                }));
             }
-        }
-        //now generated classes and resources
-        Path generatedZip = quarkus.resolve(GENERATED_BYTECODE_JAR);
-        jars.add(generatedZip);
-        try (FileSystem out = ZipUtils.newZip(generatedZip)) {
-            for (GeneratedClassBuildItem i : generatedClasses) {
-                String fileName = i.getName().replace(".", "/") + ".class";
-                Path target = out.getPath(fileName);
-                if (target.getParent() != null) {
-                    Files.createDirectories(target.getParent());
+
+            for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
+                if (rebuild) {
+                    jars.addAll(appDep.getArtifact().getPaths().toList());
+                } else {
+                    copyDependency(curateOutcomeBuildItem, copiedArtifacts, mainLib, baseLib, jars, true, classPath, appDep,
+                            incremental, executorPool, tasks);
+                }
+                if (curateOutcomeBuildItem.getEffectiveModel().getRunnerParentFirstArtifacts()
+                        .contains(appDep.getArtifact().getKey())) {
+                    bootJars.addAll(appDep.getArtifact().getPaths().toList());
                 }
-                Files.write(target, i.getClassData());
             }
+            waitFor(tasks);
 
-            for (GeneratedResourceBuildItem i : generatedResources) {
-                Path target = out.getPath(i.getName());
-                if (target.getParent() != null) {
-                    Files.createDirectories(target.getParent());
+            if (fernflowerJar != null) {
+                if (transformedZip != null) {
+                    wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, transformedZip);
                 }
-                Files.write(target, i.getClassData());
+                wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, generatedZip);
             }
-        }
-        if (fernflowerJar != null) {
-            wasDecompiledSuccessfully &= decompile(fernflowerJar, decompiledOutputDir, generatedZip);
+        } finally {
+            executorPool.shutdownNow();
         }
 
         if (wasDecompiledSuccessfully && (decompiledOutputDir != null)) {
             log.info("The decompiled output can be found at: " + decompiledOutputDir.toAbsolutePath().toString());
         }
 
-        //now the application classes
-        Path runnerJar = appDir
-                .resolve(outputTargetBuildItem.getBaseName() + ".jar");
-        jars.add(runnerJar);
-
-        if (!rebuild) {
-            Set<String> finalIgnoredEntries = new HashSet<>(IGNORED_ENTRIES);
-            packageConfig.userConfiguredIgnoredEntries.ifPresent(finalIgnoredEntries::addAll);
-            try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
-                for (Path root : applicationArchivesBuildItem.getRootArchive().getRootDirs()) {
-                    copyFiles(root, runnerZipFs, null, finalIgnoredEntries);
-                }
-            }
-        }
-
-        StringBuilder classPath = new StringBuilder();
-        for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
-            if (rebuild) {
-                jars.addAll(appDep.getArtifact().getPaths().toList());
-            } else {
-                copyDependency(curateOutcomeBuildItem, copiedArtifacts, mainLib, baseLib, jars, true, classPath, appDep);
-            }
-            if (curateOutcomeBuildItem.getEffectiveModel().getRunnerParentFirstArtifacts()
-                    .contains(appDep.getArtifact().getKey())) {
-                bootJars.addAll(appDep.getArtifact().getPaths().toList());
-            }
-        }
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchiveBuildItems) {
             for (Path path : i.getPaths()) {
                 if (!path.getParent().equals(userProviders)) {
@@ -631,9 +654,16 @@ public class JarResultBuildStep {
 
                 Path deploymentLib = libDir.resolve(DEPLOYMENT_LIB);
                 Files.createDirectories(deploymentLib);
-                for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getFullDeploymentDeps()) {
-                    copyDependency(curateOutcomeBuildItem, copiedArtifacts, deploymentLib, baseLib, jars, false, classPath,
-                            appDep);
+                final ExecutorService deploymentExecutorPool = Executors
+                        .newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                try {
+                    for (AppDependency appDep : curateOutcomeBuildItem.getEffectiveModel().getFullDeploymentDeps()) {
+                        copyDependency(curateOutcomeBuildItem, copiedArtifacts, deploymentLib, baseLib, jars, false,
+                                classPath, appDep, incremental, deploymentExecutorPool, tasks);
+                    }
+                    waitFor(tasks);
+                } finally {
+                    deploymentExecutorPool.shutdownNow();
                 }
 
                 Map<AppArtifactKey, List<String>> relativePaths = new HashMap<>();
@@ -687,6 +717,14 @@ public class JarResultBuildStep {
                 lines.sort(Comparator.naturalOrder());
                 Files.write(deplist, lines);
             }
+
+            if (incremental) {
+                Set<Path> copied = new HashSet<>();
+                for (List<Path> paths : copiedArtifacts.values()) {
+                    copied.addAll(paths);
+                }
+                removeStaleLibraries(libDir, copied, packageConfig.type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR));
+            }
         } else {
             //if it is a rebuild we might have classes
 
@@ -755,7 +793,8 @@ public class JarResultBuildStep {
     }
 
     private void copyDependency(CurateOutcomeBuildItem curateOutcomeBuildItem, Map<AppArtifactKey, List<Path>> runtimeArtifacts,
-            Path libDir, Path baseLib, List<Path> jars, boolean allowParentFirst, StringBuilder classPath, AppDependency appDep)
+            Path libDir, Path baseLib, List<Path> jars, boolean allowParentFirst, StringBuilder classPath, AppDependency appDep,
+            boolean incremental, ExecutorService executorPool, List<Future<?>> tasks)
             throws IOException {
         final AppArtifact depArtifact = appDep.getArtifact();
 
@@ -780,14 +819,115 @@ public class JarResultBuildStep {
             }
             runtimeArtifacts.computeIfAbsent(depArtifact.getKey(), (s) -> new ArrayList<>(1)).add(targetPath);
 
-            if (Files.isDirectory(resolvedDep)) {
-                // This case can happen when we are building a jar from inside the Quarkus repository
-                // and Quarkus Bootstrap's localProjectDiscovery has been set to true. In such a case
-                // the non-jar dependencies are the Quarkus dependencies picked up on the file system
-                packageClasses(resolvedDep, targetPath);
-            } else {
-                Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            tasks.add(executorPool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    if (Files.isDirectory(resolvedDep)) {
+                        // This case can happen when we are building a jar from inside the Quarkus repository
+                        // and Quarkus Bootstrap's localProjectDiscovery has been set to true. In such a case
+                        // the non-jar dependencies are the Quarkus dependencies picked up on the file system
+                        if (incremental) {
+                            Files.deleteIfExists(targetPath);
+                        }
+                        packageClasses(resolvedDep, targetPath);
+                    } else {
+                        copyDependencyJar(resolvedDep, targetPath, incremental);
+                    }
+                    return null;
+                }
+            }));
+        }
+    }
+
+    /**
+     * Empties the build directory. In incremental mode the {@code lib} directory of the previous build is kept, and the
+     * stale dependencies are removed by {@link #removeStaleLibraries(Path, Set, boolean)} once the new ones are copied.
+     */
+    static void prepareBuildDir(Path buildDir, Path libDir, boolean incremental) throws IOException {
+        if (incremental && Files.isDirectory(buildDir)) {
+            try (Stream<Path> children = Files.list(buildDir)) {
+                children.filter(p -> !p.equals(libDir)).forEach(IoUtils::recursiveDelete);
+            }
+        } else {
+            IoUtils.createOrEmptyDir(buildDir);
+        }
+    }
+
+    static void copyDependencyJar(Path resolvedDep, Path targetPath, boolean incremental) throws IOException {
+        if (!incremental) {
+            Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        } else if (!isSameFile(resolvedDep, targetPath)) {
+            // the attributes are copied so that the next build can tell whether the jar changed
+            Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    private static boolean isSameFile(Path source, Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return false;
+        }
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        BasicFileAttributes targetAttributes = Files.readAttributes(target, BasicFileAttributes.class);
+        // the copied modification time may be less precise than the original one, e.g. microseconds instead of nanoseconds
+        return sourceAttributes.size() == targetAttributes.size()
+                && sourceAttributes.lastModifiedTime().toMillis() == targetAttributes.lastModifiedTime().toMillis();
+    }
+
+    /**
+     * Removes the files of the {@code lib} directory which were not copied by the current incremental build. The
+     * {@code lib/deployment} directory is only kept for the mutable-jar format.
+     */
+    static void removeStaleLibraries(Path libDir, Set<Path> copied, boolean mutableJar) throws IOException {
+        removeStaleFiles(copied, libDir.resolve(MAIN), libDir.resolve(BOOT_LIB));
+        Path deploymentLib = libDir.resolve(DEPLOYMENT_LIB);
+        if (mutableJar) {
+            Set<Path> kept = new HashSet<>(copied);
+            kept.add(deploymentLib.resolve(APPMODEL_DAT));
+            kept.add(deploymentLib.resolve(DEPLOYMENT_CLASS_PATH_DAT));
+            kept.add(deploymentLib.resolve(BUILD_SYSTEM_PROPERTIES));
+            removeStaleFiles(kept, deploymentLib);
+        } else {
+            IoUtils.recursiveDelete(deploymentLib);
+        }
+    }
+
+    private static void removeStaleFiles(Set<Path> copied, Path... libDirs) throws IOException {
+        for (Path libDir : libDirs) {
+            if (!Files.isDirectory(libDir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(libDir)) {
+                for (Path file : files.collect(Collectors.toList())) {
+                    if (Files.isRegularFile(file) && !copied.contains(file)) {
+                        log.debugf("Removing stale library %s", file);
+                        Files.delete(file);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void write(FileSystem fs, String fileName, byte[] data) throws IOException {
+        Path target = fs.getPath(fileName);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Files.write(target, data);
+    }
+
+    private static void waitFor(List<Future<?>> tasks) throws Exception {
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
             }
+            throw e;
+        } finally {
+            tasks.clear();
         }
     }
 
@@ -0,0 +1,115 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.deployment.IsNormal;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.deployment.steps.MainClassBuildStep;
+import io.quarkus.utilities.JavaBinFinder;
+
+/**
+ * Records the classes loaded while the fast-jar application starts, so that they can be preloaded at boot.
+ * <p>
+ * Like {@link AppCDSBuildStep}, the packaged application is launched once with
+ * {@link MainClassBuildStep#GENERATE_APP_CDS_SYSTEM_PROPERTY} set, which makes it exit right after static init.
+ */
+public class PreloadClassesBuildStep {
+
+    private static final Logger log = Logger.getLogger(PreloadClassesBuildStep.class);
+
+    private static final File NULL_FILE = new File(SystemUtils.IS_OS_WINDOWS ? "NUL" : "/dev/null");
+
+    @BuildStep(onlyIf = IsNormal.class)
+    public void record(PackageConfig packageConfig, JarBuildItem jarResult,
+            BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
+        if (!packageConfig.preloadClasses) {
+            return;
+        }
+        if (!packageConfig.isFastJar() || jarResult.getLibraryDir() == null) {
+            log.warn("Class preloading is only supported by the fast-jar and mutable-jar package types");
+            return;
+        }
+        String javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + JavaBinFinder.simpleBinaryName();
+        if (!new File(javaBinPath).canExecute()) {
+            log.warnf("In order to record the classes to preload the JDK used to build the Quarkus application must"
+                    + " contain an executable named '%s' in its 'bin' directory.", javaBinPath);
+            return;
+        }
+
+        Path appDir = jarResult.getLibraryDir().getParent();
+        Path classList = appDir.resolve(QuarkusEntryPoint.QUARKUS_PRELOAD_CLASSES_LST);
+        Files.deleteIfExists(classList);
+        Path recorded = Files.createTempFile(appDir, "preload-classes", ".tmp");
+        try {
+            List<String> command = new ArrayList<>(5);
+            command.add(javaBinPath);
+            command.add(String.format("-D%s=%s", QuarkusEntryPoint.RECORD_LOADED_CLASSES_SYSTEM_PROPERTY,
+                    recorded.toAbsolutePath()));
+            command.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+            command.add("-jar");
+            command.add(appDir.resolve(JarResultBuildStep.QUARKUS_RUN_JAR).toAbsolutePath().toString());
+            if (log.isDebugEnabled()) {
+                log.debugf("Launching command: '%s' to record the classes to preload.", String.join(" ", command));
+            }
+
+            ProcessBuilder processBuilder = new ProcessBuilder(command).directory(appDir.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(NULL_FILE);
+                processBuilder.redirectOutput(NULL_FILE);
+            }
+            long start = System.currentTimeMillis();
+            int exitCode = processBuilder.start().waitFor();
+            if (exitCode != 0 || Files.size(recorded) == 0) {
+                log.warnf("Unable to record the classes to preload, the application exited with code %d", exitCode);
+                return;
+            }
+            int classCount = copyClassList(recorded, classList);
+            log.infof("Recorded %d classes to preload in %d ms", classCount, System.currentTimeMillis() - start);
+            artifactResult.produce(new ArtifactResultBuildItem(classList, "preloadClasses", Collections.emptyMap()));
+        } finally {
+            Files.deleteIfExists(recorded);
+        }
+    }
+
+    /**
+     * Copies the recorded class names to the final class list, skipping blank lines.
+     *
+     * @return the number of class names written
+     */
+    static int copyClassList(Path recorded, Path classList) throws IOException {
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(recorded, StandardCharsets.UTF_8);
+                BufferedWriter writer = Files.newBufferedWriter(classList, StandardCharsets.UTF_8)) {
+            String className;
+            while ((className = reader.readLine()) != null) {
+                if (className.isEmpty()) {
+                    continue;
+                }
+                writer.write(className);
+                writer.newLine();
+                count++;
+            }
+        }
+        return count;
+    }
+}
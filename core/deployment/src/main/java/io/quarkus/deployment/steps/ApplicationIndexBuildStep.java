@@ -2,12 +2,22 @@ package io.quarkus.deployment.steps;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
@@ -15,14 +25,17 @@ import org.jboss.logging.Logger;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 
 public class ApplicationIndexBuildStep {
 
     private static final Logger log = Logger.getLogger(ApplicationIndexBuildStep.class);
 
     @BuildStep
-    ApplicationIndexBuildItem build(ArchiveRootBuildItem root) throws IOException {
-        Indexer indexer = new Indexer();
+    ApplicationIndexBuildItem build(ArchiveRootBuildItem root, LiveReloadBuildItem liveReload) throws IOException {
+        IndexedClasses previous = liveReload.getContextObject(IndexedClasses.class);
+        Map<Path, IndexedClass> current = new LinkedHashMap<>();
+        List<IndexedClass> changed = new ArrayList<>();
         for (Path p : root.getRootDirs()) {
             Files.walkFileTree(p, new FileVisitor<Path>() {
                 @Override
@@ -33,10 +46,12 @@ public class ApplicationIndexBuildStep {
                 @Override
                 public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
                     if (file.toString().endsWith(".class")) {
-                        log.debugf("Indexing %s", file);
-                        try (InputStream stream = Files.newInputStream(file)) {
-                            indexer.index(stream);
+                        IndexedClass indexed = previous == null ? null : previous.classes.get(file);
+                        if (indexed == null || !indexed.isUpToDate(attrs)) {
+                            indexed = new IndexedClass(file, attrs);
+                            changed.add(indexed);
                         }
+                        current.put(file, indexed);
                     }
                     return FileVisitResult.CONTINUE;
                 }
@@ -52,8 +67,74 @@ public class ApplicationIndexBuildStep {
                 }
             });
         }
-        Index appIndex = indexer.complete();
-        return new ApplicationIndexBuildItem(appIndex);
+        // only the new and modified class files are parsed, the other ones are taken from the previous (re)start
+        log.debugf("Indexing %d of %d application classes", changed.size(), current.size());
+        try {
+            changed.parallelStream().forEach(IndexedClass::index);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        liveReload.setContextObject(IndexedClasses.class, new IndexedClasses(current));
+
+        Map<DotName, List<AnnotationInstance>> annotations = new HashMap<>();
+        Map<DotName, List<ClassInfo>> subclasses = new HashMap<>();
+        Map<DotName, List<ClassInfo>> implementors = new HashMap<>();
+        Map<DotName, ClassInfo> classes = new HashMap<>();
+        for (IndexedClass indexed : current.values()) {
+            ClassInfo classInfo = indexed.classInfo;
+            if (classes.putIfAbsent(classInfo.name(), classInfo) != null) {
+                // the same class in several root dirs, keep the first one found
+                continue;
+            }
+            for (Map.Entry<DotName, List<AnnotationInstance>> entry : classInfo.annotations().entrySet()) {
+                annotations.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+            }
+            if (classInfo.superName() != null) {
+                subclasses.computeIfAbsent(classInfo.superName(), k -> new ArrayList<>()).add(classInfo);
+            }
+            for (DotName interfaceName : classInfo.interfaceNames()) {
+                implementors.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(classInfo);
+            }
+        }
+        return new ApplicationIndexBuildItem(Index.create(annotations, subclasses, implementors, classes));
+    }
+
+    /**
+     * The application classes indexed by the previous (re)start, stored in the live reload context.
+     */
+    static final class IndexedClasses {
+
+        final Map<Path, IndexedClass> classes;
+
+        IndexedClasses(Map<Path, IndexedClass> classes) {
+            this.classes = classes;
+        }
     }
 
+    static final class IndexedClass {
+
+        final Path file;
+        final long lastModified;
+        final long size;
+        volatile ClassInfo classInfo;
+
+        IndexedClass(Path file, BasicFileAttributes attrs) {
+            this.file = file;
+            this.lastModified = attrs.lastModifiedTime().toMillis();
+            this.size = attrs.size();
+        }
+
+        boolean isUpToDate(BasicFileAttributes attrs) {
+            return lastModified == attrs.lastModifiedTime().toMillis() && size == attrs.size();
+        }
+
+        void index() {
+            log.debugf("Indexing %s", file);
+            try (InputStream stream = Files.newInputStream(file)) {
+                classInfo = Objects.requireNonNull(new Indexer().index(stream));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testIndexIsReusedUntilJarChanges() throws IOException {
+        Path jar = tmp.resolve("dep.jar");
+        writeJar(jar);
+        Path cacheDir = tmp.resolve("cache");
+
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir);
+        assertNotNull(cache.indexJar(jar).getClassByName(DotName.createSimple(Foo.class.getName())));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // a new build
+        cache = new PersistentIndexCache(cacheDir);
+        Index index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Foo.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        // the jar was rebuilt
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        cache = new PersistentIndexCache(cacheDir);
+        cache.indexJar(jar);
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testIndexIsNotReusedByAnotherVersion() throws IOException {
+        Path jar = tmp.resolve("dep.jar");
+        writeJar(jar);
+        Path cacheDir = tmp.resolve("cache");
+
+        new PersistentIndexCache(cacheDir, "1.0").indexJar(jar);
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, "2.0");
+        cache.indexJar(jar);
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testUnusedEntriesArePruned() throws IOException {
+        Path jar = tmp.resolve("dep.jar");
+        writeJar(jar);
+        Path removedJar = tmp.resolve("removed.jar");
+        writeJar(removedJar);
+        Path cacheDir = tmp.resolve("cache");
+
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir);
+        cache.indexJar(jar);
+        cache.indexJar(removedJar);
+        assertEquals(2, cacheFiles(cacheDir).size());
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - PersistentIndexCache.MAX_UNUSED_AGE_MILLIS - 1000);
+        for (Path cacheFile : cacheFiles(cacheDir)) {
+            Files.setLastModifiedTime(cacheFile, old);
+        }
+
+        // a new build that only uses one of the jars
+        cache = new PersistentIndexCache(cacheDir);
+        cache.indexJar(jar);
+        assertEquals(1, cache.getHits());
+        cache.pruneUnusedEntries();
+        assertEquals(1, cacheFiles(cacheDir).size());
+
+        cache = new PersistentIndexCache(cacheDir);
+        cache.indexJar(jar);
+        assertEquals(1, cache.getHits());
+    }
+
+    private static List<Path> cacheFiles(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static void writeJar(Path jar) throws IOException {
+        String classFile = Foo.class.getName().replace('.', '/') + ".class";
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                InputStream in = Foo.class.getClassLoader().getResourceAsStream(classFile)) {
+            out.putNextEntry(new JarEntry(classFile));
+            copy(in, out);
+            out.closeEntry();
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[4096];
+        int r;
+        while ((r = in.read(buffer)) > 0) {
+            out.write(buffer, 0, r);
+        }
+    }
+
+    public static class Foo {
+    }
+}
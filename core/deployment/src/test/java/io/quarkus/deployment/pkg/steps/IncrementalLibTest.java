@@ -0,0 +1,131 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Builds the {@code lib} directory of a fast-jar twice with {@code quarkus.package.incremental-lib} enabled, the same way
+ * as {@link JarResultBuildStep} does.
+ */
+public class IncrementalLibTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnchangedLibrariesAreKept() throws Exception {
+        Path repo = Files.createDirectories(tempDir.resolve("repo"));
+        Path a = createJar(repo, "a.jar", "a");
+        Path b = createJar(repo, "b.jar", "b");
+        Path buildDir = tempDir.resolve("quarkus-app");
+        Path libDir = buildDir.resolve(JarResultBuildStep.LIB);
+
+        build(buildDir, libDir, false, Arrays.asList(a, b), Arrays.asList());
+        Path libA = libDir.resolve(JarResultBuildStep.MAIN).resolve("a.jar");
+        Path libB = libDir.resolve(JarResultBuildStep.MAIN).resolve("b.jar");
+        markAsKept(libA);
+        markAsKept(libB);
+        Files.write(buildDir.resolve("stale.txt"), "stale".getBytes());
+
+        // b is updated
+        Files.write(b, "b2".getBytes());
+        Files.setLastModifiedTime(b, FileTime.fromMillis(Files.getLastModifiedTime(b).toMillis() + 10000));
+        build(buildDir, libDir, false, Arrays.asList(a, b), Arrays.asList());
+
+        assertThat(libA).hasContent("k");
+        assertThat(libB).hasContent("b2");
+        // the rest of the previous build is removed
+        assertThat(buildDir.resolve(JarResultBuildStep.QUARKUS_RUN_JAR)).hasContent("run");
+        assertThat(buildDir.resolve("stale.txt")).doesNotExist();
+    }
+
+    @Test
+    public void testRemovedLibrariesAreDeleted() throws Exception {
+        Path repo = Files.createDirectories(tempDir.resolve("repo"));
+        Path a = createJar(repo, "a.jar", "a");
+        Path b = createJar(repo, "b.jar", "b");
+        Path buildDir = tempDir.resolve("quarkus-app");
+        Path libDir = buildDir.resolve(JarResultBuildStep.LIB);
+
+        build(buildDir, libDir, false, Arrays.asList(a, b), Arrays.asList(a));
+        build(buildDir, libDir, false, Arrays.asList(a), Arrays.asList());
+
+        assertThat(libDir.resolve(JarResultBuildStep.MAIN).resolve("a.jar")).exists();
+        assertThat(libDir.resolve(JarResultBuildStep.MAIN).resolve("b.jar")).doesNotExist();
+        // the deployment dependencies are only kept for the mutable-jar
+        assertThat(libDir.resolve(JarResultBuildStep.DEPLOYMENT_LIB)).doesNotExist();
+    }
+
+    @Test
+    public void testDeploymentLibrariesAreKeptForMutableJar() throws Exception {
+        Path repo = Files.createDirectories(tempDir.resolve("repo"));
+        Path a = createJar(repo, "a.jar", "a");
+        Path d1 = createJar(repo, "d1.jar", "d1");
+        Path d2 = createJar(repo, "d2.jar", "d2");
+        Path buildDir = tempDir.resolve("quarkus-app");
+        Path libDir = buildDir.resolve(JarResultBuildStep.LIB);
+        Path deploymentLib = libDir.resolve(JarResultBuildStep.DEPLOYMENT_LIB);
+
+        build(buildDir, libDir, true, Arrays.asList(a), Arrays.asList(d1, d2));
+        markAsKept(deploymentLib.resolve("d1.jar"));
+        build(buildDir, libDir, true, Arrays.asList(a), Arrays.asList(d1));
+
+        assertThat(deploymentLib.resolve("d1.jar")).hasContent("kk");
+        assertThat(deploymentLib.resolve("d2.jar")).doesNotExist();
+        assertThat(deploymentLib.resolve(JarResultBuildStep.APPMODEL_DAT)).exists();
+        assertThat(libDir.resolve(JarResultBuildStep.MAIN).resolve("a.jar")).exists();
+    }
+
+    private static void build(Path buildDir, Path libDir, boolean mutableJar, List<Path> deps, List<Path> deploymentDeps)
+            throws IOException {
+        JarResultBuildStep.prepareBuildDir(buildDir, libDir, true);
+        Path mainLib = Files.createDirectories(libDir.resolve(JarResultBuildStep.MAIN));
+        Files.createDirectories(libDir.resolve(JarResultBuildStep.BOOT_LIB));
+        Set<Path> copied = new HashSet<>();
+        for (Path dep : deps) {
+            Path target = mainLib.resolve(dep.getFileName());
+            JarResultBuildStep.copyDependencyJar(dep, target, true);
+            copied.add(target);
+        }
+        if (mutableJar) {
+            Path deploymentLib = Files.createDirectories(libDir.resolve(JarResultBuildStep.DEPLOYMENT_LIB));
+            for (Path dep : deploymentDeps) {
+                Path target = deploymentLib.resolve(dep.getFileName());
+                JarResultBuildStep.copyDependencyJar(dep, target, true);
+                copied.add(target);
+            }
+            Files.write(deploymentLib.resolve(JarResultBuildStep.APPMODEL_DAT), "model".getBytes());
+        }
+        Files.write(buildDir.resolve(JarResultBuildStep.QUARKUS_RUN_JAR), "run".getBytes());
+        JarResultBuildStep.removeStaleLibraries(libDir, copied, mutableJar);
+    }
+
+    private static Path createJar(Path dir, String name, String content) throws IOException {
+        Path jar = dir.resolve(name);
+        Files.write(jar, content.getBytes());
+        return jar;
+    }
+
+    /**
+     * Overwrites a copied library with different content of the same size and modification time, so that it can be told
+     * whether the next build copied it again.
+     */
+    private static void markAsKept(Path file) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        byte[] content = new byte[(int) Files.size(file)];
+        Arrays.fill(content, (byte) 'k');
+        Files.write(file, content);
+        Files.setLastModifiedTime(file, lastModified);
+    }
+}
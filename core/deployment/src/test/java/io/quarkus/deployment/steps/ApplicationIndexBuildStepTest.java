@@ -0,0 +1,86 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+
+public class ApplicationIndexBuildStepTest {
+
+    private static final DotName MARKER = DotName.createSimple(Marker.class.getName());
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void testOnlyChangedClassesAreIndexedAgain() throws IOException {
+        Path foo = copyClass(Foo.class);
+        Path bar = copyClass(Bar.class);
+        ArchiveRootBuildItem archiveRoot = new ArchiveRootBuildItem(root);
+        LiveReloadBuildItem liveReload = new LiveReloadBuildItem(false, Collections.emptySet(), new HashMap<>(), null);
+        ApplicationIndexBuildStep step = new ApplicationIndexBuildStep();
+
+        Index index = step.build(archiveRoot, liveReload).getIndex();
+        assertNotNull(index.getClassByName(DotName.createSimple(Foo.class.getName())));
+        assertEquals(1, index.getAnnotations(MARKER).size());
+        assertEquals(1, index.getKnownDirectImplementors(DotName.createSimple(Runnable.class.getName())).size());
+
+        // a restart without any change reuses every class
+        Index restarted = step.build(archiveRoot, liveReload).getIndex();
+        assertSame(index.getClassByName(DotName.createSimple(Foo.class.getName())),
+                restarted.getClassByName(DotName.createSimple(Foo.class.getName())));
+
+        // modified and deleted files
+        Files.setLastModifiedTime(foo, FileTime.fromMillis(Files.getLastModifiedTime(foo).toMillis() + 10_000));
+        Files.delete(bar);
+        restarted = step.build(archiveRoot, liveReload).getIndex();
+        assertNotSame(index.getClassByName(DotName.createSimple(Foo.class.getName())),
+                restarted.getClassByName(DotName.createSimple(Foo.class.getName())));
+        assertNull(restarted.getClassByName(DotName.createSimple(Bar.class.getName())));
+        assertEquals(1, restarted.getAnnotations(MARKER).size());
+        assertEquals(0, restarted.getKnownDirectImplementors(DotName.createSimple(Runnable.class.getName())).size());
+    }
+
+    private Path copyClass(Class<?> clazz) throws IOException {
+        String classFile = clazz.getName().replace('.', '/') + ".class";
+        Path target = root.resolve(classFile);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(classFile)) {
+            Files.copy(in, target);
+        }
+        return target;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marker {
+    }
+
+    @Marker
+    public static class Foo {
+    }
+
+    public static class Bar implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+}
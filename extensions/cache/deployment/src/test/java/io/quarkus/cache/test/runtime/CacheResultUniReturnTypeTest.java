@@ -0,0 +1,168 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultUniReturnTypeTest {
+
+    private static final Object KEY_1 = new Object();
+    private static final Object KEY_2 = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testComputationCachedOnSubscription() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked but Uni not subscribed to, so nothing is computed yet.
+        // Verified by: invocations counter.
+        Uni<Object> uni1 = cachedService.cachedMethod(KEY_1);
+        assertEquals(0, cachedService.getComputations());
+
+        // STEP 2
+        // Action: subscription to the Uni from STEP 1, twice.
+        // Expected effect: value computed once and cached.
+        // Verified by: same object reference between the two results and invocations counter.
+        Object value1 = uni1.await().atMost(Duration.ofSeconds(5));
+        Object value2 = uni1.await().atMost(Duration.ofSeconds(5));
+        assertTrue(value1 == value2);
+        assertEquals(1, cachedService.getComputations());
+
+        // STEP 3
+        // Action: same call as STEP 1.
+        // Expected effect: value coming from the cache.
+        // Verified by: same object reference between STEPS 2 and 3 results.
+        Object value3 = cachedService.cachedMethod(KEY_1).await().atMost(Duration.ofSeconds(5));
+        assertTrue(value2 == value3);
+        assertEquals(1, cachedService.getComputations());
+
+        // STEP 4
+        // Action: same call as STEP 3 with a new key.
+        // Expected effect: value computed and cached.
+        // Verified by: different objects references between STEPS 3 and 4 results.
+        Object value4 = cachedService.cachedMethod(KEY_2).await().atMost(Duration.ofSeconds(5));
+        assertTrue(value3 != value4);
+        assertEquals(2, cachedService.getComputations());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call with a Uni that fails.
+        // Expected effect: failure propagated and not cached.
+        // Verified by: STEP 2.
+        assertThrows(IllegalStateException.class,
+                () -> cachedService.failingCachedMethod().await().atMost(Duration.ofSeconds(5)));
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method invoked again.
+        // Verified by: invocations counter.
+        assertThrows(IllegalStateException.class,
+                () -> cachedService.failingCachedMethod().await().atMost(Duration.ofSeconds(5)));
+        assertEquals(2, cachedService.getFailures());
+    }
+
+    @Test
+    public void testFailureDoesNotInvalidateNewerComputation() {
+        // STEP 1
+        // Action: subscription to a @CacheResult-annotated method call whose computation is still running.
+        // Expected effect: computation cached while in flight.
+        // Verified by: STEP 4.
+        CompletableFuture<Object> firstComputation = new CompletableFuture<>();
+        CompletionStage<Object> firstResult = cachedService.pendingCachedMethod(KEY_1, firstComputation)
+                .subscribeAsCompletionStage();
+
+        // STEP 2
+        // Action: @CacheInvalidate-annotated method call, then same call as STEP 1 with a computation that succeeds.
+        // Expected effect: new value computed and cached.
+        // Verified by: STEP 4.
+        cachedService.invalidate(KEY_1);
+        Object value = new Object();
+        Object value1 = cachedService.pendingCachedMethod(KEY_1, CompletableFuture.completedFuture(value))
+                .await().atMost(Duration.ofSeconds(5));
+        assertTrue(value == value1);
+
+        // STEP 3
+        // Action: failure of the computation from STEP 1.
+        // Expected effect: failure propagated to the STEP 1 subscriber.
+        // Verified by: thrown exception.
+        firstComputation.completeExceptionally(new IllegalStateException());
+        assertThrows(ExecutionException.class,
+                () -> firstResult.toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+        // STEP 4
+        // Action: same call as STEP 2 with another value.
+        // Expected effect: value from STEP 2 still cached since the failure only removes its own computation.
+        // Verified by: same object reference between STEPS 2 and 4 results.
+        Object value2 = cachedService.pendingCachedMethod(KEY_1, CompletableFuture.completedFuture(new Object()))
+                .await().atMost(Duration.ofSeconds(5));
+        assertTrue(value1 == value2);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private volatile int computations;
+        private volatile int failures;
+
+        @CacheResult(cacheName = "test-cache")
+        public Uni<Object> cachedMethod(Object key) {
+            return Uni.createFrom().item(() -> {
+                computations++;
+                return new Object();
+            });
+        }
+
+        @CacheResult(cacheName = "failing-cache")
+        public Uni<Object> failingCachedMethod() {
+            return Uni.createFrom().item(() -> {
+                failures++;
+                throw new IllegalStateException();
+            });
+        }
+
+        @CacheResult(cacheName = "pending-cache")
+        public Uni<Object> pendingCachedMethod(@CacheKey Object key, CompletableFuture<Object> computation) {
+            return Uni.createFrom().completionStage(computation);
+        }
+
+        @CacheInvalidate(cacheName = "pending-cache")
+        public void invalidate(Object key) {
+        }
+
+        public int getComputations() {
+            return computations;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+    }
+}
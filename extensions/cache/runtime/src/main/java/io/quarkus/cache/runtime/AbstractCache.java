@@ -31,5 +31,13 @@ public abstract class AbstractCache implements Cache {
 
     public abstract void invalidate(Object key);
 
+    /**
+     * Removes the entry identified by {@code key} from the cache only if it is currently associated with {@code value}.
+     * 
+     * @param key cache key
+     * @param value the cache value expected to be associated with {@code key}, compared by reference
+     */
+    public abstract void invalidate(Object key, Object value);
+
     public abstract void invalidateAll();
 }
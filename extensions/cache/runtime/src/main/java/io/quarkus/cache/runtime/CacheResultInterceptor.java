@@ -1,10 +1,13 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -14,6 +17,7 @@ import javax.interceptor.InvocationContext;
 import org.jboss.logging.Logger;
 
 import io.quarkus.cache.CacheResult;
+import io.smallrye.mutiny.Uni;
 
 @CacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
 @Interceptor
@@ -21,6 +25,7 @@ import io.quarkus.cache.CacheResult;
 public class CacheResultInterceptor extends CacheInterceptor {
 
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
+    private static final String UNI_CLASS_NAME = "io.smallrye.mutiny.Uni";
     private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
     @AroundInvoke
@@ -41,6 +46,10 @@ public class CacheResultInterceptor extends CacheInterceptor {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
         }
 
+        if (UNI_CLASS_NAME.equals(invocationContext.getMethod().getReturnType().getName())) {
+            return interceptUni(invocationContext, cache, key);
+        }
+
         try {
 
             CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
@@ -93,4 +102,47 @@ public class CacheResultInterceptor extends CacheInterceptor {
             }
         }
     }
+
+    /*
+     * A Uni is lazy so caching the Uni instance itself would not prevent the underlying computation from being executed
+     * for each subscriber. Instead, the in-flight computation is stored in the cache when the returned Uni is subscribed to.
+     * Concurrent subscribers with the same key share that computation and a failed computation is not kept in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptUni(InvocationContext invocationContext, AbstractCache cache, Object key) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> get() {
+                CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object k) {
+                        Uni<Object> uni;
+                        try {
+                            uni = (Uni<Object>) invocationContext.proceed();
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                        return uni.subscribeAsCompletionStage();
+                    }
+                });
+                return cacheValue.thenCompose(new Function<Object, CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> apply(Object computation) {
+                        /*
+                         * The key may have been invalidated and associated with a new computation in the meantime, so only
+                         * this computation is removed from the cache if it fails.
+                         */
+                        return ((CompletionStage<Object>) computation).whenComplete(new BiConsumer<Object, Throwable>() {
+                            @Override
+                            public void accept(Object value, Throwable failure) {
+                                if (failure != null) {
+                                    cache.invalidate(key, computation);
+                                }
+                            }
+                        });
+                    }
+                });
+            }
+        });
+    }
 }
@@ -114,6 +114,18 @@ public class CaffeineCache extends AbstractCache {
         cache.synchronous().invalidate(key);
     }
 
+    @Override
+    public void invalidate(Object key, Object value) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> cacheValue = cache.asMap().get(key);
+        // An entry still being computed cannot hold the given value.
+        if (cacheValue != null && cacheValue.getNow(null) == NullValueConverter.toCacheValue(value)) {
+            cache.asMap().remove(key, cacheValue);
+        }
+    }
+
     @Override
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
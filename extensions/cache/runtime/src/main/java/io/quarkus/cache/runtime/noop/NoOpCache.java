@@ -34,6 +34,10 @@ public class NoOpCache extends AbstractCache {
     public void invalidate(Object key) {
     }
 
+    @Override
+    public void invalidate(Object key, Object value) {
+    }
+
     @Override
     public void invalidateAll() {
     }
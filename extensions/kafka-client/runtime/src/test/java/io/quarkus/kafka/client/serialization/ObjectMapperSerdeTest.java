@@ -0,0 +1,31 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.nio.charset.StandardCharsets;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ObjectMapperSerdeTest {
+
+    @Test
+    public void shouldRoundTrip() {
+        try (ObjectMapperSerde<MyEntity> serde = new ObjectMapperSerde<>(MyEntity.class)) {
+            MyEntity entity = new MyEntity();
+            entity.id = 42;
+            entity.name = "foo";
+
+            byte[] bytes = serde.serializer().serialize("topic", entity);
+            Assertions.assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"id\":42,\"name\":\"foo\"}");
+
+            MyEntity result = serde.deserializer().deserialize("topic", bytes);
+            Assertions.assertThat(result.id).isEqualTo(42);
+            Assertions.assertThat(result.name).isEqualTo("foo");
+            Assertions.assertThat(serde.deserializer().deserialize("topic", null)).isNull();
+        }
+    }
+
+    public static class MyEntity {
+        public long id;
+        public String name;
+    }
+}
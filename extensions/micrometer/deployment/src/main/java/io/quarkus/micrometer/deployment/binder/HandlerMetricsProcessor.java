@@ -0,0 +1,41 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import java.util.function.BooleanSupplier;
+
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.micrometer.deployment.MicrometerProcessor;
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+import io.quarkus.resteasy.reactive.spi.HandlerMetricsFactoryBuildItem;
+
+/**
+ * Add support for the RESTEasy Reactive handler chain instrumentation.
+ *
+ * Avoid referencing classes that in turn import optional dependencies.
+ */
+public class HandlerMetricsProcessor {
+
+    // avoid imports due to related deps not being there
+    static final String HANDLER_METRICS_FACTORY_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.ResteasyReactiveHandlerMetricsFactory";
+
+    static class HandlerMetricsEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return mConfig.binder.httpServer.handlerMetrics;
+        }
+    }
+
+    @BuildStep(onlyIf = { HandlerMetricsEnabled.class, MicrometerProcessor.HttpServerBinderEnabled.class })
+    void registerHandlerMetricsFactory(Capabilities capabilities,
+            BuildProducer<HandlerMetricsFactoryBuildItem> handlerMetricsFactory,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (capabilities.isPresent(Capability.RESTEASY_REACTIVE)) {
+            handlerMetricsFactory.produce(new HandlerMetricsFactoryBuildItem(HANDLER_METRICS_FACTORY_CLASS_NAME));
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, HANDLER_METRICS_FACTORY_CLASS_NAME));
+        }
+    }
+}
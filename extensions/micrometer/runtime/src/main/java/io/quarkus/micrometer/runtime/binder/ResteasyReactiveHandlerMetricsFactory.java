@@ -0,0 +1,82 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * This is initialized by the RESTEasy Reactive deployment (static/non-CDI initialization)
+ */
+public class ResteasyReactiveHandlerMetricsFactory implements HandlerMetricsFactory {
+    static final String HANDLER_TIMER_NAME = "http.server.handler";
+    static final String HANDLER_SUSPENDED_NAME = "http.server.handler.suspended";
+
+    final MeterRegistry registry = Metrics.globalRegistry;
+
+    @Override
+    public HandlerMetrics create(ResourceClass resourceClass, ServerResourceMethod method, ServerRestHandler handler) {
+        String handlerName = handler.getClass().getSimpleName();
+        if (handlerName.isEmpty()) {
+            // anonymous handler
+            handlerName = handler.getClass().getName();
+        }
+        return new MeterHandlerMetrics(registry, Tags.of(
+                "class", resourceClass.getClassName(),
+                "method", method.getName(),
+                "handler", handlerName));
+    }
+
+    static class MeterHandlerMetrics implements HandlerMetrics {
+        final MeterRegistry registry;
+        final Tags tags;
+
+        Timer timer;
+        Counter suspended;
+
+        MeterHandlerMetrics(MeterRegistry registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+        }
+
+        @Override
+        public void record(long durationNanos, boolean suspended) {
+            getTimer().record(durationNanos, TimeUnit.NANOSECONDS);
+            if (suspended) {
+                getSuspendedCounter().increment();
+            }
+        }
+
+        // Lazy init: the meters are registered on first use, multiple registrations return the same meter
+        Timer getTimer() {
+            Timer timer = this.timer;
+            if (timer == null) {
+                timer = this.timer = Timer.builder(HANDLER_TIMER_NAME)
+                        .description("Time spent in a handler of a resource method handler chain")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(registry);
+            }
+            return timer;
+        }
+
+        Counter getSuspendedCounter() {
+            Counter counter = this.suspended;
+            if (counter == null) {
+                counter = this.suspended = Counter.builder(HANDLER_SUSPENDED_NAME)
+                        .description("Number of times a handler of a resource method handler chain suspended the request")
+                        .tags(tags)
+                        .register(registry);
+            }
+            return counter;
+        }
+    }
+}
@@ -2,12 +2,15 @@ package io.quarkus.micrometer.runtime.binder.vertx;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.jboss.logging.Logger;
 
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.http.Outcome;
@@ -34,6 +37,11 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         implements HttpServerMetrics<HttpRequestMetric, LongTaskTimer.Sample, Map<String, Object>> {
     static final Logger log = Logger.getLogger(VertxHttpServerMetrics.class);
     static final String METRICS_CONTEXT = "HTTP_REQUEST_METRICS_CONTEXT";
+    /**
+     * Maximum number of request timers kept in {@link #requestTimers}. Requests with tags beyond this limit, e.g. when
+     * the uri tag is not templated, fall back to a registry lookup.
+     */
+    static final int MAX_CACHED_REQUEST_TIMERS = 1024;
 
     final List<Pattern> ignorePatterns;
     final Map<Pattern, String> matchPatterns;
@@ -42,6 +50,8 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     final String nameHttpServerPush;
     final String nameHttpServerRequests;
 
+    final Map<RequestTimerKey, Timer> requestTimers = new ConcurrentHashMap<>();
+
     VertxHttpServerMetrics(MeterRegistry registry, HttpBinderConfiguration config) {
         super(registry, "http.server");
         nameWebsocketConnections = "http.server.websocket.connections";
@@ -144,13 +154,8 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         Timer.Sample sample = getRequestSample(requestMetric);
         if (sample != null) {
             String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.getTags())
-                    .tags(Tags.of(
-                            HttpMetricsCommon.uri(requestPath, 0),
-                            Outcome.CLIENT_ERROR.asTag(),
-                            HttpMetricsCommon.STATUS_RESET));
-            sample.stop(builder.register(registry));
+            sample.stop(requestTimer(requestMetric.getTags(), HttpMetricsCommon.uri(requestPath, 0), 0,
+                    Outcome.CLIENT_ERROR.asTag(), HttpMetricsCommon.STATUS_RESET));
         }
     }
 
@@ -167,14 +172,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         Timer.Sample sample = getRequestSample(requestMetric);
         if (sample != null) {
             String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.getTags())
-                    .tags(Tags.of(
-                            HttpMetricsCommon.uri(requestPath, response.getStatusCode()),
-                            VertxMetricsTags.outcome(response),
-                            HttpMetricsCommon.status(response.getStatusCode())));
-
-            sample.stop(builder.register(registry));
+            int status = response.getStatusCode();
+            sample.stop(requestTimer(requestMetric.getTags(), HttpMetricsCommon.uri(requestPath, status), status, null,
+                    null));
         }
     }
 
@@ -213,6 +213,30 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         }
     }
 
+    /**
+     * Returns the request timer for the given tags, registering it on first use.
+     * <p>
+     * The outcome and status tags are derived from the status code unless given explicitly, so the timer is cached by
+     * (method, uri, status). Cache hits only allocate the lookup key.
+     */
+    Timer requestTimer(Tags methodTags, Tag uriTag, int status, Tag outcomeTag, Tag statusTag) {
+        RequestTimerKey key = new RequestTimerKey(methodTags, uriTag.getValue(), status);
+        Timer timer = requestTimers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        timer = Timer.builder(nameHttpServerRequests)
+                .tags(methodTags)
+                .tags(Tags.of(uriTag,
+                        outcomeTag != null ? outcomeTag : Outcome.forStatus(status).asTag(),
+                        statusTag != null ? statusTag : HttpMetricsCommon.status(status)))
+                .register(registry);
+        if (requestTimers.size() < MAX_CACHED_REQUEST_TIMERS) {
+            requestTimers.putIfAbsent(key, timer);
+        }
+        return timer;
+    }
+
     private Timer.Sample getRequestSample(HttpRequestMetric metricsContext) {
         if (metricsContext == null) {
             return null;
@@ -226,4 +250,36 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         }
         return metricsContext.getHttpRequestPath();
     }
+
+    static final class RequestTimerKey {
+
+        final Tags methodTags;
+        final String uri;
+        final int status;
+        final int hashCode;
+
+        RequestTimerKey(Tags methodTags, String uri, int status) {
+            this.methodTags = methodTags;
+            this.uri = uri;
+            this.status = status;
+            this.hashCode = Objects.hash(methodTags, uri, status);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestTimerKey)) {
+                return false;
+            }
+            RequestTimerKey that = (RequestTimerKey) o;
+            return status == that.status && uri.equals(that.uri) && methodTags.equals(that.methodTags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
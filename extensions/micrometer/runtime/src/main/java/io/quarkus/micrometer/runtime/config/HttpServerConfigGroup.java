@@ -21,6 +21,17 @@ public class HttpServerConfigGroup implements MicrometerConfig.CapabilityEnabled
     @ConfigItem
     public Optional<Boolean> enabled;
 
+    /**
+     * RESTEasy Reactive handler metrics support.
+     * <p>
+     * If true and HTTP server metrics are enabled, the time spent in each handler
+     * of the RESTEasy Reactive resource method handler chains is recorded,
+     * together with the number of times a handler suspended the request processing.
+     * The handler chains are not instrumented at all if this value is false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean handlerMetrics;
+
     @Override
     public Optional<Boolean> getEnabled() {
         return enabled;
@@ -30,6 +41,7 @@ public class HttpServerConfigGroup implements MicrometerConfig.CapabilityEnabled
     public String toString() {
         return this.getClass().getSimpleName()
                 + "{enabled=" + enabled
+                + ",handlerMetrics=" + handlerMetrics
                 + '}';
     }
 }
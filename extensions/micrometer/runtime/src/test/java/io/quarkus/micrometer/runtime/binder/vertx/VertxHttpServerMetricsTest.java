@@ -9,8 +9,11 @@ import java.util.regex.Pattern;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.binder.HttpMetricsCommon;
 import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
 import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
 import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
@@ -50,4 +53,33 @@ public class VertxHttpServerMetricsTest {
         Assertions.assertEquals("/item/{id}", entry.getValue());
         Assertions.assertTrue(entry.getKey().matcher("/item/123").matches());
     }
+
+    @Test
+    public void testRequestTimersAreCached() {
+        HttpBinderConfiguration binderConfig = new HttpBinderConfiguration(
+                true, false,
+                new HttpServerConfig(), new HttpClientConfig(), new VertxConfig());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VertxHttpServerMetrics metrics = new VertxHttpServerMetrics(registry, binderConfig);
+        Tags get = Tags.of("method", "GET");
+
+        Timer timer = metrics.requestTimer(get, HttpMetricsCommon.uri("/item/{id}", 200), 200, null, null);
+        Assertions.assertSame(timer,
+                metrics.requestTimer(Tags.of("method", "GET"), HttpMetricsCommon.uri("/item/{id}", 200), 200, null, null));
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tags("method", "GET", "uri", "/item/{id}", "status", "200", "outcome", "SUCCESS").timer());
+        Assertions.assertNotSame(timer,
+                metrics.requestTimer(get, HttpMetricsCommon.uri("/item/{id}", 500), 500, null, null));
+        // All 404 responses share the same uri tag
+        Assertions.assertSame(metrics.requestTimer(get, HttpMetricsCommon.uri("/a", 404), 404, null, null),
+                metrics.requestTimer(get, HttpMetricsCommon.uri("/b", 404), 404, null, null));
+        Assertions.assertEquals(3, metrics.requestTimers.size());
+
+        for (int i = 0; i < VertxHttpServerMetrics.MAX_CACHED_REQUEST_TIMERS * 2; i++) {
+            metrics.requestTimer(get, HttpMetricsCommon.uri("/item/" + i, 200), 200, null, null);
+        }
+        Assertions.assertEquals(VertxHttpServerMetrics.MAX_CACHED_REQUEST_TIMERS, metrics.requestTimers.size());
+        Assertions.assertEquals(VertxHttpServerMetrics.MAX_CACHED_REQUEST_TIMERS * 2 + 3,
+                registry.find("http.server.requests").timers().size());
+    }
 }
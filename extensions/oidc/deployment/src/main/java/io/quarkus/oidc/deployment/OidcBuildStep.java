@@ -24,6 +24,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.EnableAllSecurityServicesBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.SecurityEvent;
 import io.quarkus.oidc.runtime.DefaultTenantConfigResolver;
 import io.quarkus.oidc.runtime.DefaultTokenStateManager;
@@ -97,6 +98,13 @@ public class OidcBuildStep {
                 .done();
     }
 
+    @BuildStep(onlyIf = IsEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void tokenCacheMetrics(OidcConfig config, OidcRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics(config)));
+    }
+
     @BuildStep(onlyIf = IsEnabled.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     public ValidationErrorBuildItem findSecurityEventObservers(
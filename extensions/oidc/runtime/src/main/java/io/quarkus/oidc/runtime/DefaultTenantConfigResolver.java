@@ -166,4 +166,8 @@ public class DefaultTenantConfigResolver {
     public Executor getBlockingExecutor() {
         return tenantConfigBean.getBlockingExecutor();
     }
+
+    TokenIntrospectionCache getTokenCache() {
+        return tenantConfigBean.getTokenCache();
+    }
 }
@@ -1,10 +1,12 @@
 package io.quarkus.oidc.runtime;
 
+import java.time.Duration;
 import java.util.Map;
 
 import io.quarkus.oidc.OidcTenantConfig;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -25,4 +27,29 @@ public class OidcConfig {
     @ConfigDocMapKey("tenant")
     @ConfigItem(name = ConfigItem.PARENT)
     public Map<String, OidcTenantConfig> namedTenants;
+
+    /**
+     * Cache of the token introspection and UserInfo results, shared by all the tenants.
+     * When a metrics extension is present, the cache hits, misses and size are published as the
+     * {@code oidc.tokenCache.*} metrics.
+     */
+    @ConfigItem
+    public TokenCache tokenCache = new TokenCache();
+
+    @ConfigGroup
+    public static class TokenCache {
+        /**
+         * Maximum number of tokens whose introspection and UserInfo results are cached.
+         * The cache is disabled by default, set this property to a positive value to enable it.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize;
+
+        /**
+         * Maximum amount of time a cache entry is valid for.
+         * An entry is also removed once the token expires, if the introspection result has an 'exp' claim.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive;
+    }
 }
@@ -16,7 +16,6 @@ import io.quarkus.oidc.OidcTenantConfig;
 import io.quarkus.oidc.OidcTenantConfig.Roles.Source;
 import io.quarkus.oidc.OidcTokenCredential;
 import io.quarkus.oidc.common.runtime.OidcConstants;
-import io.quarkus.runtime.BlockingOperationControl;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.credential.TokenCredential;
 import io.quarkus.security.identity.AuthenticationRequestContext;
@@ -243,31 +242,26 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
             TenantConfigContext resolvedContext,
             String token) {
         if (OidcUtils.isOpaqueToken(token)) {
-            // remote introspection is required, a blocking call
-            return Uni.createFrom().emitter(
-                    new Consumer<UniEmitter<? super TokenVerificationResult>>() {
+            // remote introspection is required, its result is cached if the token cache is enabled
+            final TokenIntrospectionCache tokenCache = tenantResolver.getTokenCache();
+            final String tenantId = resolvedContext.oidcConfig.tenantId.get();
+            if (tokenCache.isEnabled()) {
+                TokenVerificationResult cachedResult = tokenCache.getIntrospection(tenantId, token);
+                if (cachedResult != null) {
+                    return Uni.createFrom().item(cachedResult);
+                }
+            }
+            return resolvedContext.client.verifyTokenUni(resolvedContext, token).onItem()
+                    .invoke(new Consumer<TokenVerificationResult>() {
                         @Override
-                        public void accept(UniEmitter<? super TokenVerificationResult> uniEmitter) {
-                            if (BlockingOperationControl.isBlockingAllowed()) {
-                                resolvedContext.client.verifyToken(uniEmitter, resolvedContext, token);
-                            } else {
-                                tenantResolver.getBlockingExecutor().execute(new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        resolvedContext.client.verifyToken(uniEmitter, resolvedContext,
-                                                token);
-                                    }
-                                });
+                        public void accept(TokenVerificationResult result) {
+                            if (tokenCache.isEnabled()) {
+                                tokenCache.putIntrospection(tenantId, token, result);
                             }
                         }
                     });
         } else {
-            return Uni.createFrom().emitter(new Consumer<UniEmitter<? super TokenVerificationResult>>() {
-                @Override
-                public void accept(UniEmitter<? super TokenVerificationResult> uniEmitter) {
-                    resolvedContext.client.verifyToken(uniEmitter, resolvedContext, token);
-                }
-            });
+            return resolvedContext.client.verifyTokenUni(resolvedContext, token);
         }
     }
 
@@ -292,19 +286,27 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private Uni<JsonObject> getUserInfoUni(RoutingContext vertxContext, TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
         if (resolvedContext.oidcConfig.authentication.isUserInfoRequired()) {
+            final TokenIntrospectionCache tokenCache = tenantResolver.getTokenCache();
+            final String tenantId = resolvedContext.oidcConfig.tenantId.get();
+            String accessToken = vertxContext.get(CODE_FLOW_ACCESS_TOKEN);
+            final String token = accessToken != null ? accessToken : request.getToken().getToken();
+            if (tokenCache.isEnabled()) {
+                JsonObject cachedUserInfo = tokenCache.getUserInfo(tenantId, token);
+                if (cachedUserInfo != null) {
+                    return Uni.createFrom().item(cachedUserInfo);
+                }
+            }
             return Uni.createFrom().emitter(
                     new Consumer<UniEmitter<? super JsonObject>>() {
                         @Override
                         public void accept(UniEmitter<? super JsonObject> uniEmitter) {
-                            if (BlockingOperationControl.isBlockingAllowed()) {
-                                resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
-                            } else {
-                                tenantResolver.getBlockingExecutor().execute(new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
-                                    }
-                                });
+                            resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
+                        }
+                    }).onItem().invoke(new Consumer<JsonObject>() {
+                        @Override
+                        public void accept(JsonObject userInfo) {
+                            if (tokenCache.isEnabled()) {
+                                tokenCache.putUserInfo(tenantId, token, userInfo);
                             }
                         }
                     });
@@ -25,6 +25,7 @@ import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.Vertx;
@@ -40,6 +41,33 @@ public class OidcRecorder {
 
     private static final Map<String, TenantConfigContext> dynamicTenantsConfig = new ConcurrentHashMap<>();
 
+    /**
+     * Publishes the token cache statistics when the cache is enabled and a metrics extension is present.
+     */
+    public Consumer<MetricsFactory> registerTokenCacheMetrics(OidcConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (config.tokenCache.maxSize <= 0) {
+                    return;
+                }
+                metricsFactory.builder("oidc.tokenCache.hits")
+                        .description("Number of token introspection and UserInfo requests avoided by the token cache")
+                        .buildCounter(() -> getTokenCache().getHits());
+                metricsFactory.builder("oidc.tokenCache.misses")
+                        .description("Number of token cache lookups which required a remote call")
+                        .buildCounter(() -> getTokenCache().getMisses());
+                metricsFactory.builder("oidc.tokenCache.size")
+                        .description("Number of tokens in the token cache")
+                        .buildGauge(() -> getTokenCache().size());
+            }
+        };
+    }
+
+    private static TokenIntrospectionCache getTokenCache() {
+        return Arc.container().instance(TenantConfigBean.class).get().getTokenCache();
+    }
+
     public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
         final Vertx vertxValue = vertx.get();
 
@@ -54,6 +82,8 @@ public class OidcRecorder {
                     createTenantContext(vertxValue, tenant.getValue(), tlsConfig, tenant.getKey()));
         }
 
+        TokenIntrospectionCache tokenCache = new TokenIntrospectionCache(config.tokenCache);
+
         return new Supplier<TenantConfigBean>() {
             @Override
             public TenantConfigBean get() {
@@ -82,7 +112,8 @@ public class OidcRecorder {
 
                             }
                         },
-                        ExecutorRecorder.getCurrent());
+                        ExecutorRecorder.getCurrent(),
+                        tokenCache);
             }
         };
     }
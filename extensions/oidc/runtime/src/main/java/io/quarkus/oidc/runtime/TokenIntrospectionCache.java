@@ -0,0 +1,99 @@
+package io.quarkus.oidc.runtime;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.security.runtime.ExpiringTokenCache;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Cache of the token introspection and UserInfo results, keyed by the tenant id and the SHA-256 hash of the token.
+ * <p>
+ * Both results of a token share a single {@link ExpiringTokenCache} entry, which also expires when the token itself
+ * expires if the introspection result has an {@code exp} claim.
+ */
+public class TokenIntrospectionCache {
+
+    private static final String EXP = "exp";
+
+    private static final Function<CacheEntry, TokenVerificationResult> INTROSPECTION = new Function<CacheEntry, TokenVerificationResult>() {
+        @Override
+        public TokenVerificationResult apply(CacheEntry entry) {
+            return entry.introspection;
+        }
+    };
+
+    private static final Function<CacheEntry, JsonObject> USER_INFO = new Function<CacheEntry, JsonObject>() {
+        @Override
+        public JsonObject apply(CacheEntry entry) {
+            return entry.userInfo;
+        }
+    };
+
+    private static final Supplier<CacheEntry> NEW_ENTRY = new Supplier<CacheEntry>() {
+        @Override
+        public CacheEntry get() {
+            return new CacheEntry();
+        }
+    };
+
+    private final ExpiringTokenCache<CacheEntry> cache;
+
+    public TokenIntrospectionCache(OidcConfig.TokenCache config) {
+        this.cache = new ExpiringTokenCache<>(config.maxSize, config.timeToLive);
+    }
+
+    public boolean isEnabled() {
+        return cache.isEnabled();
+    }
+
+    public TokenVerificationResult getIntrospection(String tenantId, String token) {
+        return cache.get(key(tenantId, token), INTROSPECTION);
+    }
+
+    public void putIntrospection(String tenantId, String token, TokenVerificationResult introspection) {
+        long expiresAt = 0;
+        JsonObject introspectionResult = introspection.introspectionResult;
+        if (introspectionResult != null && introspectionResult.getValue(EXP) instanceof Number) {
+            // make sure an already expired token is not cached
+            expiresAt = Math.max(1, introspectionResult.getLong(EXP) * 1000);
+        }
+        CacheEntry entry = cache.getOrCreate(key(tenantId, token), expiresAt, NEW_ENTRY);
+        if (entry != null) {
+            entry.introspection = introspection;
+        }
+    }
+
+    public JsonObject getUserInfo(String tenantId, String token) {
+        return cache.get(key(tenantId, token), USER_INFO);
+    }
+
+    public void putUserInfo(String tenantId, String token, JsonObject userInfo) {
+        CacheEntry entry = cache.getOrCreate(key(tenantId, token), 0, NEW_ENTRY);
+        if (entry != null) {
+            entry.userInfo = userInfo;
+        }
+    }
+
+    public long getHits() {
+        return cache.getHits();
+    }
+
+    public long getMisses() {
+        return cache.getMisses();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private static String key(String tenantId, String token) {
+        return tenantId + ":" + HashUtil.sha256(token);
+    }
+
+    private static final class CacheEntry {
+        volatile TokenVerificationResult introspection;
+        volatile JsonObject userInfo;
+    }
+}
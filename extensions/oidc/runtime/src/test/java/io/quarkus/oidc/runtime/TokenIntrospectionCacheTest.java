@@ -0,0 +1,71 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class TokenIntrospectionCacheTest {
+
+    @Test
+    public void testIntrospectionAndUserInfoAreCached() {
+        TokenIntrospectionCache cache = new TokenIntrospectionCache(config(2, Duration.ofMinutes(3)));
+        assertNull(cache.getIntrospection("tenant", "token"));
+        TokenVerificationResult result = introspection(System.currentTimeMillis() / 1000 + 60);
+        cache.putIntrospection("tenant", "token", result);
+        JsonObject userInfo = new JsonObject().put("name", "alice");
+        cache.putUserInfo("tenant", "token", userInfo);
+
+        assertSame(result, cache.getIntrospection("tenant", "token"));
+        assertSame(userInfo, cache.getUserInfo("tenant", "token"));
+        // the same token is cached separately for each tenant
+        assertNull(cache.getIntrospection("other-tenant", "token"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testExpiredTokensAreNotCached() {
+        TokenIntrospectionCache cache = new TokenIntrospectionCache(config(2, Duration.ofMinutes(3)));
+        cache.putIntrospection("tenant", "token", introspection(System.currentTimeMillis() / 1000 - 1));
+        assertNull(cache.getIntrospection("tenant", "token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        TokenIntrospectionCache cache = new TokenIntrospectionCache(config(2, Duration.ofMinutes(3)));
+        long exp = System.currentTimeMillis() / 1000 + 60;
+        cache.putIntrospection("tenant", "token1", introspection(exp));
+        cache.putIntrospection("tenant", "token2", introspection(exp));
+        cache.putIntrospection("tenant", "token3", introspection(exp));
+        assertEquals(2, cache.size());
+        assertNull(cache.getIntrospection("tenant", "token3"));
+    }
+
+    @Test
+    public void testDisabledCache() {
+        TokenIntrospectionCache cache = new TokenIntrospectionCache(config(0, Duration.ofMinutes(3)));
+        cache.putIntrospection("tenant", "token", introspection(System.currentTimeMillis() / 1000 + 60));
+        assertNull(cache.getIntrospection("tenant", "token"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+
+    private static TokenVerificationResult introspection(long exp) {
+        return new TokenVerificationResult(null, new JsonObject().put("active", true).put("exp", exp));
+    }
+
+    private static OidcConfig.TokenCache config(int maxSize, Duration timeToLive) {
+        OidcConfig.TokenCache config = new OidcConfig.TokenCache();
+        config.maxSize = maxSize;
+        config.timeToLive = timeToLive;
+        return config;
+    }
+}
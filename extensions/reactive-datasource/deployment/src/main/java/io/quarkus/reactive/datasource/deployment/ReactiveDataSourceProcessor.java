@@ -1,9 +1,16 @@
 package io.quarkus.reactive.datasource.deployment;
 
+import java.util.List;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.datasource.runtime.DataSourcesBuildTimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.reactive.datasource.runtime.ReactiveDataSourceMetricsRecorder;
 
 class ReactiveDataSourceProcessor {
 
@@ -12,4 +19,19 @@ class ReactiveDataSourceProcessor {
         // add the @ReactiveDataSource class otherwise it won't be registered as a qualifier
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReactiveDataSource.class).build());
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(ReactiveDataSourceMetricsRecorder recorder,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            List<VertxPoolBuildItem> vertxPools,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!dataSourcesBuildTimeConfig.metricsEnabled) {
+            return;
+        }
+        for (VertxPoolBuildItem vertxPool : vertxPools) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerEventLoopPoolMetrics(vertxPool.getPool(), vertxPool.getDataSourceName())));
+        }
+    }
 }
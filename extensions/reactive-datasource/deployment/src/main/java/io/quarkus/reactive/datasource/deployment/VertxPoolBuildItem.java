@@ -1,6 +1,7 @@
 package io.quarkus.reactive.datasource.deployment;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.RuntimeValue;
 import io.vertx.sqlclient.Pool;
 
@@ -14,12 +15,12 @@ public final class VertxPoolBuildItem extends MultiBuildItem {
 
     private final RuntimeValue<? extends Pool> vertxPool;
     private final String dbKind;
-    private final boolean isDefault;
+    private final String dataSourceName;
 
-    public VertxPoolBuildItem(RuntimeValue<? extends Pool> vertxPool, String dbKind, boolean isDefault) {
+    public VertxPoolBuildItem(RuntimeValue<? extends Pool> vertxPool, String dbKind, String dataSourceName) {
         this.vertxPool = vertxPool;
         this.dbKind = dbKind;
-        this.isDefault = isDefault;
+        this.dataSourceName = dataSourceName;
     }
 
     public RuntimeValue<? extends Pool> getPool() {
@@ -30,8 +31,12 @@ public final class VertxPoolBuildItem extends MultiBuildItem {
         return dbKind;
     }
 
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
     public boolean isDefault() {
-        return isDefault;
+        return DataSourceUtil.isDefault(dataSourceName);
     }
 
 }
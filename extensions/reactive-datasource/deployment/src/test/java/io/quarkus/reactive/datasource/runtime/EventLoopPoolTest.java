@@ -0,0 +1,120 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.wildfly.common.Assert;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+
+/**
+ * Checks that EventLoopPool never creates more connections than configured,
+ * whatever the number of threads using it.
+ */
+public class EventLoopPoolTest {
+
+    private static final int EVENT_LOOPS = 4;
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void startVertx() {
+        vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(EVENT_LOOPS));
+    }
+
+    @AfterEach
+    public void stopVertx() {
+        vertx.close();
+    }
+
+    @Test
+    public void maxSizeIsSplitBetweenEventLoops() throws Exception {
+        TestableEventLoopPool globalPool = new TestableEventLoopPool(vertx, 6);
+        List<TestPoolInterface> eventLoopPools = new ArrayList<>();
+        for (EventExecutor eventLoop : vertx.nettyEventLoopGroup()) {
+            TestPoolInterface pool = eventLoop.submit(globalPool::pool).get();
+            // the same event loop always gets the same pool
+            Assert.assertTrue(eventLoop.submit(globalPool::pool).get() == pool);
+            Assert.assertFalse(eventLoopPools.contains(pool));
+            eventLoopPools.add(pool);
+        }
+        Assert.assertTrue(globalPool.poolCount() == EVENT_LOOPS);
+        Assert.assertTrue(sum(globalPool.createdPoolSizes) == 6);
+
+        // a burst of worker threads only uses the existing pools
+        ExecutorService workers = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<TestPoolInterface>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(workers.submit(globalPool::pool));
+            }
+            for (Future<TestPoolInterface> future : futures) {
+                Assert.assertTrue(eventLoopPools.contains(future.get()));
+            }
+        } finally {
+            workers.shutdown();
+        }
+        Assert.assertTrue(globalPool.poolCount() == EVENT_LOOPS);
+
+        globalPool.close();
+        for (TestPoolInterface pool : globalPool.createdPools) {
+            Assert.assertTrue(pool.isClosed());
+        }
+        Assert.assertTrue(globalPool.poolCount() == 0);
+    }
+
+    @Test
+    public void eventLoopsSharePoolsWhenThereAreFewerConnections() throws Exception {
+        TestableEventLoopPool globalPool = new TestableEventLoopPool(vertx, 2);
+        for (EventExecutor eventLoop : vertx.nettyEventLoopGroup()) {
+            eventLoop.submit(globalPool::pool).get();
+        }
+        Assert.assertTrue(globalPool.poolCount() == 2);
+        Assert.assertTrue(sum(globalPool.createdPoolSizes) == 2);
+        globalPool.close();
+    }
+
+    @Test
+    public void workerThreadCreatesASharedPool() throws Exception {
+        TestableEventLoopPool globalPool = new TestableEventLoopPool(vertx, 4);
+        TestPoolInterface pool = globalPool.pool();
+        Assert.assertTrue(globalPool.pool() == pool);
+        Assert.assertTrue(globalPool.poolCount() == 1);
+
+        // the test pool never completes the request
+        globalPool.getConnection(ar -> {
+        });
+        Assert.assertTrue(globalPool.pendingConnectionRequests() == 1);
+        globalPool.close();
+        Assert.assertTrue(pool.isClosed());
+    }
+
+    @Test
+    public void queriesWaitForAConnection() throws Exception {
+        TestableEventLoopPool globalPool = new TestableEventLoopPool(vertx, 4);
+
+        // the test pool never completes the request, so the queries keep waiting for a connection
+        globalPool.query("SELECT 1").execute(ar -> {
+        });
+        globalPool.preparedQuery("SELECT 1").execute(ar -> {
+        });
+        Assert.assertTrue(globalPool.pendingConnectionRequests() == 2);
+        globalPool.close();
+    }
+
+    private static int sum(List<Integer> sizes) {
+        int sum = 0;
+        for (Integer size : sizes) {
+            sum += size;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+
+final class TestableEventLoopPool extends EventLoopPool<TestPoolInterface> {
+
+    final List<TestPoolInterface> createdPools = new CopyOnWriteArrayList<>();
+    final List<Integer> createdPoolSizes = new CopyOnWriteArrayList<>();
+
+    public TestableEventLoopPool(Vertx vertx, int maxSize) {
+        super(vertx, new PoolOptions().setMaxSize(maxSize));
+    }
+
+    @Override
+    protected TestPoolInterface createEventLoopPool(PoolOptions poolOptions) {
+        TestPool pool = new TestPool();
+        createdPools.add(pool);
+        createdPoolSizes.add(poolOptions.getMaxSize());
+        return pool;
+    }
+}
@@ -28,11 +28,21 @@ public class DataSourceReactiveRuntimeConfig {
 
     /**
      * The datasource pool maximum size.
-     * Note that a separate pool instance is started for each thread using it: the size limits each individual pool instance.
+     * Note that unless {@code event-loop-pools} is enabled, a separate pool instance is started for each thread using it:
+     * the size limits each individual pool instance.
      */
     @ConfigItem
     public OptionalInt maxSize = OptionalInt.empty();
 
+    /**
+     * Whether to start at most one pool instance per Vert.x event loop instead of one per thread.
+     * The maximum size is then split between these pool instances, so that it limits the total number of connections.
+     * If {@code quarkus.datasource.metrics.enabled} is true, the number of pool instances, of operations waiting for a
+     * connection and the total time spent waiting are published as the {@code reactive.*} metrics.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean eventLoopPools = false;
+
     /**
      * Whether all server certificates should be trusted.
      */
@@ -0,0 +1,355 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * This Pool implementation creates at most one Vert.x Pool per event loop,
+ * and splits the configured maximum size between them: unlike {@link ThreadLocalPool}
+ * the total number of connections never exceeds the configured limit, however many
+ * threads use the pool.
+ * <p>
+ * A Vert.x Pool is bound to the context it was created on and runs all its operations there.
+ * The Pool used by an event loop thread is created on that thread, so its connections
+ * are only ever used by this event loop. Other threads (e.g. worker threads) use the
+ * existing Pools in a round-robin fashion, and the operation is dispatched to the event loop
+ * of the selected Pool.
+ * </p>
+ * When there are more event loops than connections, only as many Pools as connections are
+ * created, and the event loops that have no Pool of their own share the existing ones.
+ *
+ * @param <PoolType> useful for implementations to produce typed pools
+ */
+public abstract class EventLoopPool<PoolType extends Pool> implements Pool {
+
+    //The pools bound to an event loop, keyed by the event loop thread. Access requires synchronization on this map.
+    private final Map<Thread, PoolType> eventLoopPools = new HashMap<>();
+
+    //All the pools, in creation order
+    private final List<PoolType> allPools = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger nextPool = new AtomicInteger();
+
+    //Connection requests which have not been handed a connection yet
+    private final AtomicInteger pendingConnectionRequests = new AtomicInteger();
+    private final LongAdder connectionWaitNanos = new LongAdder();
+
+    //Used by subclasses to create new pool instances
+    protected final Vertx vertx;
+
+    private final PoolOptions poolOptions;
+
+    private final int maxPools;
+
+    private volatile boolean closed = false;
+
+    public EventLoopPool(Vertx vertx, PoolOptions poolOptions) {
+        this(vertx, poolOptions, eventLoops(vertx));
+    }
+
+    protected EventLoopPool(Vertx vertx, PoolOptions poolOptions, int eventLoops) {
+        this.vertx = vertx;
+        this.poolOptions = poolOptions;
+        this.maxPools = Math.max(1, Math.min(eventLoops, poolOptions.getMaxSize()));
+    }
+
+    private static int eventLoops(Vertx vertx) {
+        int count = 0;
+        for (EventExecutor ignored : vertx.nettyEventLoopGroup()) {
+            count++;
+        }
+        return count;
+    }
+
+    PoolType pool() {
+        checkPoolIsOpen();
+        if (Context.isOnEventLoopThread()) {
+            synchronized (eventLoopPools) {
+                checkPoolIsOpen();
+                PoolType pool = eventLoopPools.get(Thread.currentThread());
+                if (pool == null && allPools.size() < maxPools) {
+                    pool = newPool();
+                    eventLoopPools.put(Thread.currentThread(), pool);
+                }
+                if (pool != null) {
+                    return pool;
+                }
+            }
+        }
+        if (allPools.isEmpty()) {
+            synchronized (eventLoopPools) {
+                checkPoolIsOpen();
+                if (allPools.isEmpty()) {
+                    //this pool is bound to an event loop selected by Vert.x,
+                    //it will be shared with the event loops that have no pool of their own
+                    return newPool();
+                }
+            }
+        }
+        //only close() removes pools, so if they are gone by now this pool has been closed concurrently
+        int size = allPools.size();
+        if (size > 0) {
+            try {
+                return allPools.get(Math.floorMod(nextPool.getAndIncrement(), size));
+            } catch (IndexOutOfBoundsException e) {
+                //fall through
+            }
+        }
+        throw new IllegalStateException("This Pool has been closed");
+    }
+
+    private PoolType newPool() {
+        //the first pools get the remainder of the division, so that the sizes add up to the configured size
+        int index = allPools.size();
+        int maxSize = poolOptions.getMaxSize() / maxPools + (index < poolOptions.getMaxSize() % maxPools ? 1 : 0);
+        PoolType pool = createEventLoopPool(new PoolOptions(poolOptions).setMaxSize(maxSize));
+        allPools.add(pool);
+        return pool;
+    }
+
+    private void checkPoolIsOpen() {
+        if (closed) {
+            throw new IllegalStateException("This Pool has been closed");
+        }
+    }
+
+    /**
+     * Creates the Pool used by the current event loop, or shared by several threads.
+     *
+     * @param poolOptions the options of this pool, with its share of the maximum size
+     */
+    protected abstract PoolType createEventLoopPool(PoolOptions poolOptions);
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        PoolType pool = pool();
+        pool.getConnection(trackWait(handler));
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return new PooledQuery<>(new Function<SqlConnection, Query<RowSet<Row>>>() {
+            @Override
+            public Query<RowSet<Row>> apply(SqlConnection connection) {
+                return connection.query(sql);
+            }
+        });
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return new PooledPreparedQuery<>(new Function<SqlConnection, PreparedQuery<RowSet<Row>>>() {
+            @Override
+            public PreparedQuery<RowSet<Row>> apply(SqlConnection connection) {
+                return connection.preparedQuery(sql);
+            }
+        });
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        PoolType pool = pool();
+        pool.begin(trackWait(handler));
+    }
+
+    private <T> Handler<AsyncResult<T>> trackWait(Handler<AsyncResult<T>> handler) {
+        long start = System.nanoTime();
+        pendingConnectionRequests.incrementAndGet();
+        return new Handler<AsyncResult<T>>() {
+            @Override
+            public void handle(AsyncResult<T> result) {
+                pendingConnectionRequests.decrementAndGet();
+                connectionWaitNanos.add(System.nanoTime() - start);
+                handler.handle(result);
+            }
+        };
+    }
+
+    /**
+     * Runs an operation on a connection of the pool, and returns the connection to the pool once the operation completes.
+     * Unlike the Vert.x Pool query methods, this acquires the connection with {@link #getConnection(Handler)} so that
+     * the time spent waiting for it is tracked.
+     */
+    private <T> void withConnection(BiConsumer<SqlConnection, Handler<AsyncResult<T>>> operation,
+            Handler<AsyncResult<T>> handler) {
+        getConnection(new Handler<AsyncResult<SqlConnection>>() {
+            @Override
+            public void handle(AsyncResult<SqlConnection> ar) {
+                if (ar.failed()) {
+                    handler.handle(Future.failedFuture(ar.cause()));
+                    return;
+                }
+                SqlConnection connection = ar.result();
+                try {
+                    operation.accept(connection, new Handler<AsyncResult<T>>() {
+                        @Override
+                        public void handle(AsyncResult<T> result) {
+                            connection.close();
+                            handler.handle(result);
+                        }
+                    });
+                } catch (Throwable t) {
+                    connection.close();
+                    handler.handle(Future.failedFuture(t));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        synchronized (eventLoopPools) {
+            this.closed = true;
+            for (PoolType pool : allPools) {
+                pool.close();
+            }
+            allPools.clear();
+            eventLoopPools.clear();
+        }
+    }
+
+    /**
+     * @return the number of Vert.x Pools created so far
+     */
+    public int poolCount() {
+        return allPools.size();
+    }
+
+    /**
+     * @return the number of operations still waiting for a connection
+     */
+    public int pendingConnectionRequests() {
+        return pendingConnectionRequests.get();
+    }
+
+    /**
+     * @return the total time spent waiting for a connection, by the queries as well as
+     *         the {@link #getConnection(Handler)} and {@link #begin(Handler)} calls
+     */
+    public Duration connectionWaitTime() {
+        return Duration.ofNanos(connectionWaitNanos.sum());
+    }
+
+    private class PooledQuery<T> implements Query<T> {
+
+        private final Function<SqlConnection, Query<T>> query;
+
+        PooledQuery(Function<SqlConnection, Query<T>> query) {
+            this.query = query;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            withConnection(new BiConsumer<SqlConnection, Handler<AsyncResult<T>>>() {
+                @Override
+                public void accept(SqlConnection connection, Handler<AsyncResult<T>> resultHandler) {
+                    query.apply(connection).execute(resultHandler);
+                }
+            }, handler);
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new PooledQuery<>(new Function<SqlConnection, Query<SqlResult<R>>>() {
+                @Override
+                public Query<SqlResult<R>> apply(SqlConnection connection) {
+                    return query.apply(connection).collecting(collector);
+                }
+            });
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new PooledQuery<>(new Function<SqlConnection, Query<RowSet<U>>>() {
+                @Override
+                public Query<RowSet<U>> apply(SqlConnection connection) {
+                    return query.apply(connection).mapping(mapper);
+                }
+            });
+        }
+    }
+
+    private class PooledPreparedQuery<T> implements PreparedQuery<T> {
+
+        private final Function<SqlConnection, PreparedQuery<T>> query;
+
+        PooledPreparedQuery(Function<SqlConnection, PreparedQuery<T>> query) {
+            this.query = query;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            withConnection(new BiConsumer<SqlConnection, Handler<AsyncResult<T>>>() {
+                @Override
+                public void accept(SqlConnection connection, Handler<AsyncResult<T>> resultHandler) {
+                    query.apply(connection).execute(resultHandler);
+                }
+            }, handler);
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<T>> handler) {
+            withConnection(new BiConsumer<SqlConnection, Handler<AsyncResult<T>>>() {
+                @Override
+                public void accept(SqlConnection connection, Handler<AsyncResult<T>> resultHandler) {
+                    query.apply(connection).execute(tuple, resultHandler);
+                }
+            }, handler);
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<T>> handler) {
+            withConnection(new BiConsumer<SqlConnection, Handler<AsyncResult<T>>>() {
+                @Override
+                public void accept(SqlConnection connection, Handler<AsyncResult<T>> resultHandler) {
+                    query.apply(connection).executeBatch(batch, resultHandler);
+                }
+            }, handler);
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new PooledPreparedQuery<>(new Function<SqlConnection, PreparedQuery<SqlResult<R>>>() {
+                @Override
+                public PreparedQuery<SqlResult<R>> apply(SqlConnection connection) {
+                    return query.apply(connection).collecting(collector);
+                }
+            });
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new PooledPreparedQuery<>(new Function<SqlConnection, PreparedQuery<RowSet<U>>>() {
+                @Override
+                public PreparedQuery<RowSet<U>> apply(SqlConnection connection) {
+                    return query.apply(connection).mapping(mapper);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.sqlclient.Pool;
+
+@Recorder
+public class ReactiveDataSourceMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerEventLoopPoolMetrics(RuntimeValue<? extends Pool> vertxPool,
+            String dataSourceName) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // only the event loop pools, enabled with the event-loop-pools property, track these metrics
+                if (!(vertxPool.getValue() instanceof EventLoopPool)) {
+                    return;
+                }
+                EventLoopPool<?> pool = (EventLoopPool<?>) vertxPool.getValue();
+                String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+
+                metricsFactory.builder("reactive.pool.count")
+                        .description("Number of Vert.x pools created, at most one per event loop.")
+                        .tag("datasource", tagValue)
+                        .buildGauge(pool::poolCount);
+                metricsFactory.builder("reactive.awaiting.count")
+                        .description("Number of operations waiting for a connection.")
+                        .tag("datasource", tagValue)
+                        .buildGauge(pool::pendingConnectionRequests);
+                metricsFactory.builder("reactive.blocking.time.total")
+                        .description("Total time operations waited to acquire a connection.")
+                        .tag("datasource", tagValue)
+                        .unit("milliseconds")
+                        .buildGauge(() -> pool.connectionWaitTime().toMillis());
+            }
+        };
+    }
+}
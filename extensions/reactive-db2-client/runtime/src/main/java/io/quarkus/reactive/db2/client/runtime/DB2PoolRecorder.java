@@ -64,6 +64,9 @@ public class DB2PoolRecorder {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopPools) {
+            return new EventLoopDB2Pool(vertx, connectOptions, poolOptions);
+        }
         return new ThreadLocalDB2Pool(vertx, connectOptions, poolOptions);
     }
 
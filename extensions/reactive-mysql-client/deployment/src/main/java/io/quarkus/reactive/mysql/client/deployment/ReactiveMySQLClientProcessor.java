@@ -134,7 +134,7 @@ class ReactiveMySQLClientProcessor {
 
         syntheticBeans.produce(mutinyMySQLPoolConfigurator.done());
 
-        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.MYSQL, DataSourceUtil.isDefault(dataSourceName)));
+        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.MYSQL, dataSourceName));
     }
 
     private static boolean isReactiveMySQLPoolDefined(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
@@ -65,6 +65,9 @@ public class MySQLPoolRecorder {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopPools) {
+            return new EventLoopMySQLPool(vertx, mysqlConnectOptions, poolOptions);
+        }
         return new ThreadLocalMySQLPool(vertx, mysqlConnectOptions, poolOptions);
     }
 
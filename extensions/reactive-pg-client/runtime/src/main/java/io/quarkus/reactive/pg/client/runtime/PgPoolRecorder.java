@@ -65,6 +65,9 @@ public class PgPoolRecorder {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopPools) {
+            return new EventLoopPgPool(vertx, pgConnectOptions, poolOptions);
+        }
         return new ThreadLocalPgPool(vertx, pgConnectOptions, poolOptions);
     }
 
@@ -2,6 +2,7 @@ package io.quarkus.redis.client;
 
 import java.util.List;
 
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 /**
@@ -15,6 +16,14 @@ import io.vertx.redis.client.Response;
 public interface RedisClient {
     void close();
 
+    /**
+     * Sends the given commands in a single write and waits for all the replies.
+     *
+     * @param commands the commands to send
+     * @return the replies, in the order of the commands
+     */
+    List<Response> batch(List<Request> commands);
+
     Response append(String arg0, String arg1);
 
     Response asking();
@@ -3,6 +3,7 @@ package io.quarkus.redis.client.reactive;
 import java.util.List;
 
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 /**
@@ -14,6 +15,16 @@ import io.vertx.mutiny.redis.client.Response;
 public interface ReactiveRedisClient {
     void close();
 
+    /**
+     * Sends the given commands in a single write.
+     *
+     * @param commands the commands to send
+     * @return the replies, in the order of the commands
+     */
+    Uni<List<Response>> batch(List<Request> commands);
+
+    List<Response> batchAndAwait(List<Request> commands);
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
@@ -41,8 +41,8 @@ class RedisAPIProducer {
                 RedisAPI redisAPI = RedisAPI.api(redis);
                 MutinyRedis mutinyRedis = new MutinyRedis(redis);
                 MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
+                RedisClient redisClient = new RedisClientImpl(mutinyRedis, mutinyRedisAPI, timeout);
+                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedis, mutinyRedisAPI);
                 return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI);
             }
         });
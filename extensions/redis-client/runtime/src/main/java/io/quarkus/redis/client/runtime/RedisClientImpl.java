@@ -1,18 +1,23 @@
 package io.quarkus.redis.client.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import io.quarkus.redis.client.RedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 class RedisClientImpl implements RedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
     private final Duration timeout;
 
-    public RedisClientImpl(RedisAPI redisAPI, Duration timeout) {
+    public RedisClientImpl(Redis redis, RedisAPI redisAPI, Duration timeout) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
         this.timeout = timeout;
     }
@@ -22,6 +27,20 @@ class RedisClientImpl implements RedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public List<Response> batch(List<Request> commands) {
+        List<io.vertx.mutiny.redis.client.Request> requests = new ArrayList<>(commands.size());
+        for (Request command : commands) {
+            requests.add(io.vertx.mutiny.redis.client.Request.newInstance(command));
+        }
+        List<io.vertx.mutiny.redis.client.Response> responses = redis.batch(requests).await().atMost(timeout);
+        List<Response> result = new ArrayList<>(responses.size());
+        for (io.vertx.mutiny.redis.client.Response response : responses) {
+            result.add(response == null ? null : response.getDelegate());
+        }
+        return result;
+    }
+
     @Override
     public Response append(String arg0, String arg1) {
         return await(redisAPI.append(arg0, arg1));
@@ -0,0 +1,24 @@
+package io.quarkus.resteasy.reactive.spi;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Build item used to register an implementation of
+ * {@code org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory} that measures the handlers of the resource
+ * methods.
+ * <p>
+ * The class must have a public no-args constructor. If this build item is not produced, the handler chains are not
+ * instrumented.
+ */
+public final class HandlerMetricsFactoryBuildItem extends SimpleBuildItem {
+
+    private final String className;
+
+    public HandlerMetricsFactoryBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+}
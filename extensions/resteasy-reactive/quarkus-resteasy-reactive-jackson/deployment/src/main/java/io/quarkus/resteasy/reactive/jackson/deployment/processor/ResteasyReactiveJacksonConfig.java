@@ -0,0 +1,17 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "rest.jackson")
+public class ResteasyReactiveJacksonConfig {
+
+    /**
+     * If the Jackson serializers and deserializers of the types returned or consumed by the resource methods should
+     * be resolved at startup rather than on the first request using them.
+     * <p>
+     * Disabling this makes the startup faster at the expense of the latency of the first requests.
+     */
+    @ConfigItem(defaultValue = "true")
+    boolean prefetchSerializers;
+}
@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -9,23 +10,32 @@ import java.util.Set;
 import javax.ws.rs.core.MediaType;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.scanning.ResourceScanningResult;
 
 import com.fasterxml.jackson.annotation.JsonView;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
 import io.quarkus.resteasy.reactive.jackson.CustomSerialization;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveJacksonRecorder;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.JacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.JacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
@@ -41,6 +51,16 @@ public class ResteasyReactiveJacksonProcessor {
 
     private static final DotName JSON_VIEW = DotName.createSimple(JsonView.class.getName());
     private static final DotName CUSTOM_SERIALIZATION = DotName.createSimple(CustomSerialization.class.getName());
+    // a parameter with one of these annotations is not the entity (the request body)
+    private static final Set<DotName> NON_ENTITY_PARAMETER_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            ResteasyReactiveDotNames.PATH_PARAM, ResteasyReactiveDotNames.QUERY_PARAM,
+            ResteasyReactiveDotNames.HEADER_PARAM, ResteasyReactiveDotNames.FORM_PARAM,
+            ResteasyReactiveDotNames.MATRIX_PARAM, ResteasyReactiveDotNames.COOKIE_PARAM,
+            ResteasyReactiveDotNames.BEAN_PARAM, ResteasyReactiveDotNames.REST_PATH_PARAM,
+            ResteasyReactiveDotNames.REST_QUERY_PARAM, ResteasyReactiveDotNames.REST_HEADER_PARAM,
+            ResteasyReactiveDotNames.REST_FORM_PARAM, ResteasyReactiveDotNames.REST_MATRIX_PARAM,
+            ResteasyReactiveDotNames.REST_COOKIE_PARAM, ResteasyReactiveDotNames.MULTI_PART_FORM_PARAM,
+            ResteasyReactiveDotNames.CONTEXT, ResteasyReactiveDotNames.SUSPENDED));
 
     @BuildStep
     void feature(BuildProducer<FeatureBuildItem> feature) {
@@ -126,4 +146,75 @@ public class ResteasyReactiveJacksonProcessor {
                     new ReflectiveClassBuildItem(true, false, classesNeedingReflectionOnMethods.toArray(new String[0])));
         }
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void prefetchSerializers(Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
+            CombinedIndexBuildItem combinedIndex,
+            BeanContainerBuildItem beanContainer,
+            ResteasyReactiveJacksonConfig config,
+            ResteasyReactiveJacksonRecorder recorder) {
+        if (!config.prefetchSerializers || !resourceScanningResultBuildItem.isPresent()) {
+            return;
+        }
+        ResourceScanningResult result = resourceScanningResultBuildItem.get().getResult();
+        IndexView index = combinedIndex.getIndex();
+        Set<DotName> httpAnnotations = result.getHttpAnnotationToMethod().keySet();
+        Set<String> entityClasses = new HashSet<>();
+        for (ClassInfo resourceClass : result.getScannedResources().values()) {
+            for (MethodInfo method : resourceClass.methods()) {
+                if (!isResourceMethod(method, httpAnnotations)) {
+                    continue;
+                }
+                collectEntityClasses(method.returnType(), index, entityClasses);
+                for (int i = 0; i < method.parameters().size(); i++) {
+                    if (isEntityParameter(method, i)) {
+                        collectEntityClasses(method.parameters().get(i), index, entityClasses);
+                    }
+                }
+            }
+        }
+        if (!entityClasses.isEmpty()) {
+            recorder.prefetchSerializers(beanContainer.getValue(), entityClasses);
+        }
+    }
+
+    private static boolean isResourceMethod(MethodInfo method, Set<DotName> httpAnnotations) {
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD
+                    && httpAnnotations.contains(annotation.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEntityParameter(MethodInfo method, int position) {
+        // the entity parameter is the one without any JAX-RS parameter annotation, it may have others such as @Valid
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER
+                    && annotation.target().asMethodParameter().position() == position
+                    && NON_ENTITY_PARAMETER_ANNOTATIONS.contains(annotation.name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void collectEntityClasses(Type type, IndexView index, Set<String> entityClasses) {
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            // e.g. Uni<Dto> or List<Dto>
+            for (Type argument : type.asParameterizedType().arguments()) {
+                collectEntityClasses(argument, index, entityClasses);
+            }
+        } else if (type.kind() == Type.Kind.ARRAY) {
+            collectEntityClasses(type.asArrayType().component(), index, entityClasses);
+        } else if (type.kind() == Type.Kind.CLASS) {
+            // only consider the application classes, the JDK and library types are handled by built-in serializers
+            ClassInfo classInfo = index.getClassByName(type.name());
+            if (classInfo != null && !type.name().toString().startsWith("java.")) {
+                entityClasses.add(type.name().toString());
+            }
+        }
+    }
 }
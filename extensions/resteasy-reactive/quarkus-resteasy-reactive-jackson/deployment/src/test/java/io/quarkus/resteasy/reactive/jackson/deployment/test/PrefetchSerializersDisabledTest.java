@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PrefetchSerializersDisabledTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PrefetchedEntity.class, PrefetchedEntityResource.class);
+                }
+            })
+            .overrideConfigKey("quarkus.rest.jackson.prefetch-serializers", "false");
+
+    @Test
+    public void testSerializersResolvedOnFirstUse() {
+        assertEquals(0, PrefetchedEntity.SERIALIZERS.get());
+        assertEquals(0, PrefetchedEntity.DESERIALIZERS.get());
+
+        RestAssured
+                .with()
+                .body("\"foo\"")
+                .contentType("application/json")
+                .post("/prefetch/bar")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("\"bar-foo\""));
+
+        assertEquals(1, PrefetchedEntity.DESERIALIZERS.get());
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PrefetchSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PrefetchedEntity.class, PrefetchedEntityResource.class);
+                }
+            });
+
+    @Test
+    public void testSerializersResolvedAtStartup() {
+        // no request has been sent yet
+        assertEquals(1, PrefetchedEntity.SERIALIZERS.get());
+        assertEquals(1, PrefetchedEntity.DESERIALIZERS.get());
+
+        RestAssured
+                .with()
+                .body("\"foo\"")
+                .contentType("application/json")
+                .post("/prefetch/bar")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("\"bar-foo\""));
+
+        // the request used the serializers resolved at startup
+        assertEquals(1, PrefetchedEntity.SERIALIZERS.get());
+        assertEquals(1, PrefetchedEntity.DESERIALIZERS.get());
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Counts the serializers and deserializers created by Jackson, which happens when they are resolved.
+ */
+@JsonSerialize(using = PrefetchedEntity.Serializer.class)
+@JsonDeserialize(using = PrefetchedEntity.Deserializer.class)
+public class PrefetchedEntity {
+
+    static final AtomicInteger SERIALIZERS = new AtomicInteger();
+    static final AtomicInteger DESERIALIZERS = new AtomicInteger();
+
+    private final String value;
+
+    public PrefetchedEntity(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static class Serializer extends JsonSerializer<PrefetchedEntity> {
+
+        public Serializer() {
+            SERIALIZERS.incrementAndGet();
+        }
+
+        @Override
+        public void serialize(PrefetchedEntity entity, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeString(entity.value);
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<PrefetchedEntity> {
+
+        public Deserializer() {
+            DESERIALIZERS.incrementAndGet();
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public PrefetchedEntity deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return new PrefetchedEntity(p.getValueAsString());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import javax.validation.Valid;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestPath;
+
+@Path("/prefetch")
+public class PrefetchedEntityResource {
+
+    @POST
+    @Path("{prefix}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public PrefetchedEntity echo(@RestPath String prefix, @Valid PrefetchedEntity entity) {
+        return new PrefetchedEntity(prefix + "-" + entity.getValue());
+    }
+}
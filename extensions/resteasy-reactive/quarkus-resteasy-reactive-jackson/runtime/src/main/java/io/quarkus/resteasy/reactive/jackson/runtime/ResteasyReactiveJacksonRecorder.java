@@ -0,0 +1,37 @@
+package io.quarkus.resteasy.reactive.jackson.runtime;
+
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class ResteasyReactiveJacksonRecorder {
+
+    private static final Logger LOG = Logger.getLogger(ResteasyReactiveJacksonRecorder.class);
+
+    /**
+     * Resolves the serializers and deserializers of the endpoint entity types so that the introspection cost is paid
+     * at startup instead of on the first request. Jackson keeps them in the caches of the {@link ObjectMapper}.
+     */
+    public void prefetchSerializers(BeanContainer beanContainer, Set<String> classNames) {
+        ObjectMapper mapper = beanContainer.instance(ObjectMapper.class);
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        for (String className : classNames) {
+            try {
+                Class<?> clazz = Class.forName(className, false, tccl);
+                // this is the lookup performed when the runtime type of the entity is serialized
+                mapper.getSerializerProviderInstance().findTypedValueSerializer(clazz, true, null);
+                // the root deserializer is resolved eagerly
+                mapper.readerFor(clazz);
+            } catch (Exception | LinkageError e) {
+                // the serializer will be resolved (and the error reported) on the first use
+                LOG.debugf(e, "Unable to prefetch the Jackson serializers of %s", className);
+            }
+        }
+    }
+}
@@ -78,7 +78,8 @@ public class JacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteab
                     }
                 }
             }
-            entityStream.write(defaultWriter.writeValueAsBytes(o));
+            // write directly to the stream instead of materializing the whole payload as a byte[] first
+            defaultWriter.writeValue(entityStream, o);
         }
     }
 
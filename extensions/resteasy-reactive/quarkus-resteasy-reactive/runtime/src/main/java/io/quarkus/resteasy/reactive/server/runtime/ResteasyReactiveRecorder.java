@@ -26,6 +26,7 @@ import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
 import org.jboss.resteasy.reactive.server.jaxrs.ProvidersImpl;
 import org.jboss.resteasy.reactive.server.model.ContextResolvers;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.util.RuntimeResourceVisitor;
 import org.jboss.resteasy.reactive.server.util.ScoreSystem;
@@ -194,6 +195,14 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder {
         };
     }
 
+    public HandlerMetricsFactory handlerMetricsFactory(String className) {
+        try {
+            return (HandlerMetricsFactory) loadClass(className).newInstance();
+        } catch (IllegalAccessException | InstantiationException e) {
+            throw new RuntimeException("Unable to create handler metrics factory " + className, e);
+        }
+    }
+
     public Function<Class<?>, BeanFactory<?>> factoryCreator(BeanContainer container) {
         return new Function<Class<?>, BeanFactory<?>>() {
             @Override
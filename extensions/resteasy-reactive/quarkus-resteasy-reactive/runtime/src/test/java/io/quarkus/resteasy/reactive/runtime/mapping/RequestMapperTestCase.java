@@ -35,6 +35,29 @@ public class RequestMapperTestCase {
 
     }
 
+    @Test
+    public void testFailedCandidateDoesNotLeakParams() {
+
+        RequestMapper<String> mapper = mapper("/bar/{p1}/baz", "/bar/{p1}/{p2}", "/bar/{id:[0-9]+}/qux", "/bar");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/bar/34/44");
+        Assertions.assertEquals("/bar/{p1}/{p2}", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertEquals("44", result.pathParamValues[1]);
+        result = mapper.map("/bar/34/baz");
+        Assertions.assertEquals("/bar/{p1}/baz", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+        result = mapper.map("/bar/12/qux");
+        Assertions.assertEquals("/bar/{id:[0-9]+}/qux", result.value);
+        Assertions.assertEquals("12", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+        result = mapper.map("/bar");
+        Assertions.assertEquals("/bar", result.value);
+        Assertions.assertNull(result.pathParamValues[0]);
+        Assertions.assertNull(mapper.map("/bar/34/44/55"));
+    }
+
     RequestMapper<String> mapper(String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
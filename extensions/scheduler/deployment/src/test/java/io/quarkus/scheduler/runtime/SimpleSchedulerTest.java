@@ -0,0 +1,237 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.runtime.SimpleScheduler.CronTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Drives {@link SimpleScheduler#checkTriggers(ZonedDateTime)} with a simulated clock to verify that tasks fire on time
+ * and that the due queue is kept ordered by the next check time.
+ */
+public class SimpleSchedulerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2020, 6, 1, 10, 0, 0, 0, ZoneId.of("UTC"));
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startExecutor() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void intervalTaskFiresOnTime() throws Exception {
+        SimpleScheduler scheduler = createScheduler(true);
+        RecordingInvoker invoker = new RecordingInvoker();
+        scheduler.dueQueue.add(new ScheduledTask(new IntervalTrigger("interval", START, 2000), invoker));
+
+        for (int i = 0; i <= 5; i++) {
+            scheduler.checkTriggers(at(i));
+        }
+
+        awaitExecutions();
+        assertEquals(List.of(at(0).toInstant(), START.plusSeconds(2).toInstant(), START.plusSeconds(4).toInstant()),
+                invoker.fireTimes);
+        assertEquals(epochMillis(6), scheduler.dueQueue.peek().nextCheck);
+    }
+
+    @Test
+    public void cronTaskFiresOnTime() throws Exception {
+        SimpleScheduler scheduler = createScheduler(true);
+        RecordingInvoker invoker = new RecordingInvoker();
+        CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        scheduler.dueQueue.add(new ScheduledTask(new CronTrigger("cron", START, parser.parse("0/5 * * * * ?")), invoker));
+
+        for (int i = 0; i <= 11; i++) {
+            scheduler.checkTriggers(at(i));
+        }
+
+        awaitExecutions();
+        assertEquals(List.of(START.toInstant(), START.plusSeconds(5).toInstant(), START.plusSeconds(10).toInstant()),
+                invoker.fireTimes);
+        assertEquals(epochMillis(15), scheduler.dueQueue.peek().nextCheck);
+    }
+
+    @Test
+    public void taskNotCheckedBeforeStart() throws Exception {
+        SimpleScheduler scheduler = createScheduler(true);
+        RecordingInvoker invoker = new RecordingInvoker();
+        ZonedDateTime start = START.plusSeconds(3);
+        scheduler.dueQueue.add(new ScheduledTask(new IntervalTrigger("delayed", start, 1000), invoker));
+
+        scheduler.checkTriggers(at(1));
+        scheduler.checkTriggers(at(2));
+        assertEquals(start.toInstant().toEpochMilli(), scheduler.dueQueue.peek().nextCheck);
+        scheduler.checkTriggers(at(3));
+
+        awaitExecutions();
+        assertEquals(1, invoker.fireTimes.size());
+    }
+
+    @Test
+    public void pausedSchedulerSkipsTasks() throws Exception {
+        SimpleScheduler scheduler = createScheduler(true);
+        RecordingInvoker invoker = new RecordingInvoker();
+        scheduler.dueQueue.add(new ScheduledTask(new IntervalTrigger("interval", START, 1000), invoker));
+
+        scheduler.pause();
+        assertFalse(scheduler.isRunning());
+        scheduler.checkTriggers(at(0));
+        scheduler.checkTriggers(at(1));
+        scheduler.resume();
+        assertTrue(scheduler.isRunning());
+        scheduler.checkTriggers(at(2));
+
+        awaitExecutions();
+        assertEquals(Collections.singletonList(at(2).toInstant()), invoker.fireTimes);
+    }
+
+    @Test
+    public void disabledSchedulerSkipsTasks() throws Exception {
+        SimpleScheduler scheduler = createScheduler(false);
+        RecordingInvoker invoker = new RecordingInvoker();
+        scheduler.dueQueue.add(new ScheduledTask(new IntervalTrigger("interval", START, 1000), invoker));
+
+        // a disabled scheduler cannot be resumed
+        scheduler.resume();
+        assertFalse(scheduler.isRunning());
+        for (int i = 0; i <= 3; i++) {
+            scheduler.checkTriggers(at(i));
+        }
+
+        awaitExecutions();
+        assertTrue(invoker.fireTimes.isEmpty());
+    }
+
+    @Test
+    public void queueReorderedAfterEachRun() throws Exception {
+        SimpleScheduler scheduler = createScheduler(true);
+        RecordingInvoker slowInvoker = new RecordingInvoker();
+        RecordingInvoker fastInvoker = new RecordingInvoker();
+        ScheduledTask slow = new ScheduledTask(new IntervalTrigger("slow", START, 3000), slowInvoker);
+        ScheduledTask fast = new ScheduledTask(new IntervalTrigger("fast", START, 1000), fastInvoker);
+        scheduler.dueQueue.add(slow);
+        scheduler.dueQueue.add(fast);
+
+        scheduler.checkTriggers(at(0));
+        assertEquals(fast, scheduler.dueQueue.peek());
+        assertEquals(epochMillis(1), fast.nextCheck);
+        assertEquals(epochMillis(3), slow.nextCheck);
+
+        scheduler.checkTriggers(at(1));
+        scheduler.checkTriggers(at(2));
+        assertEquals(epochMillis(3), fast.nextCheck);
+        assertEquals(epochMillis(3), slow.nextCheck);
+
+        scheduler.checkTriggers(at(3));
+        assertEquals(epochMillis(4), scheduler.dueQueue.peek().nextCheck);
+        assertEquals(epochMillis(6), slow.nextCheck);
+        assertEquals(2, scheduler.dueQueue.size());
+
+        awaitExecutions();
+        assertEquals(2, slowInvoker.fireTimes.size());
+        assertEquals(4, fastInvoker.fireTimes.size());
+    }
+
+    @Test
+    public void intervalTriggerNextCheck() {
+        IntervalTrigger trigger = new IntervalTrigger("interval", START, 5000);
+        assertEquals(epochMillis(0), trigger.nextCheck(at(0)));
+        trigger.evaluate(at(0));
+        assertEquals(epochMillis(5), trigger.nextCheck(at(0)));
+        // not fired yet, the next check does not move
+        trigger.evaluate(at(3));
+        assertEquals(epochMillis(5), trigger.nextCheck(at(3)));
+    }
+
+    @Test
+    public void cronTriggerNextCheck() {
+        CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        CronTrigger trigger = new CronTrigger("cron", START, parser.parse("0 0/1 * * * ?"));
+        assertEquals(epochMillis(0), trigger.nextCheck(START.minusSeconds(10)));
+        assertEquals(START.plusMinutes(1).toInstant().toEpochMilli(), trigger.nextCheck(at(0)));
+        assertEquals(START.plusMinutes(1).toInstant().toEpochMilli(), trigger.nextCheck(at(42)));
+    }
+
+    private SimpleScheduler createScheduler(boolean enabled) {
+        SchedulerRuntimeConfig config = new SchedulerRuntimeConfig();
+        config.enabled = enabled;
+        return new SimpleScheduler(new SchedulerContext() {
+
+            @Override
+            public ExecutorService getExecutor() {
+                return executor;
+            }
+
+            @Override
+            public CronType getCronType() {
+                return CronType.QUARTZ;
+            }
+
+            @Override
+            public List<ScheduledMethodMetadata> getScheduledMethods() {
+                return Collections.emptyList();
+            }
+        }, config, null);
+    }
+
+    private void awaitExecutions() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static long epochMillis(int seconds) {
+        return START.plusSeconds(seconds).toInstant().toEpochMilli();
+    }
+
+    /**
+     * The scheduler checks the triggers once per second, a bit after the start of the second.
+     */
+    private static ZonedDateTime at(int seconds) {
+        return START.plusSeconds(seconds).plusNanos(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    static class RecordingInvoker implements ScheduledInvoker {
+
+        final List<Instant> fireTimes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void invoke(ScheduledExecution execution) {
+            invokeBean(execution);
+        }
+
+        @Override
+        public void invokeBean(ScheduledExecution execution) {
+            fireTimes.add(execution.getScheduledFireTime());
+        }
+    }
+
+}
@@ -8,6 +8,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -52,6 +53,8 @@ public class SimpleScheduler implements Scheduler {
     private final ExecutorService executor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
+    // tasks ordered by the time they need to be evaluated next, only accessed from the scheduler thread
+    final PriorityQueue<ScheduledTask> dueQueue;
     private final boolean enabled;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
@@ -59,6 +62,7 @@ public class SimpleScheduler implements Scheduler {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
+        this.dueQueue = new PriorityQueue<>();
         this.executor = context.getExecutor();
 
         if (!schedulerRuntimeConfig.enabled) {
@@ -90,6 +94,7 @@ public class SimpleScheduler implements Scheduler {
                     scheduledTasks.add(new ScheduledTask(trigger, invoker));
                 }
             }
+            dueQueue.addAll(scheduledTasks);
         }
     }
 
@@ -118,14 +123,28 @@ public class SimpleScheduler implements Scheduler {
     }
 
     void checkTriggers() {
-        if (!running) {
+        checkTriggers(ZonedDateTime.now());
+    }
+
+    void checkTriggers(ZonedDateTime now) {
+        if (!isRunning()) {
             LOGGER.trace("Skip all triggers - scheduler paused");
             return;
         }
-        ZonedDateTime now = ZonedDateTime.now();
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor);
+        long nowMillis = now.toInstant().toEpochMilli();
+        ScheduledTask head = dueQueue.peek();
+        if (head == null || head.nextCheck > nowMillis) {
+            // Nothing to evaluate yet
+            return;
+        }
+        List<ScheduledTask> evaluated = new ArrayList<>();
+        while (head != null && head.nextCheck <= nowMillis) {
+            evaluated.add(dueQueue.poll());
+            head.execute(now, executor);
+            head.nextCheck = head.trigger.nextCheck(now);
+            head = dueQueue.peek();
         }
+        dueQueue.addAll(evaluated);
     }
 
     @Override
@@ -183,14 +202,22 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    static class ScheduledTask {
+    static class ScheduledTask implements Comparable<ScheduledTask> {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // epoch millis, the task does not need to be evaluated before this time
+        long nextCheck;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
             this.trigger = trigger;
             this.invoker = invoker;
+            this.nextCheck = trigger.start.toInstant().toEpochMilli();
+        }
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            return Long.compare(nextCheck, other.nextCheck);
         }
 
         void execute(ZonedDateTime now, ExecutorService executor) {
@@ -233,6 +260,13 @@ public class SimpleScheduler implements Scheduler {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * 
+         * @param now
+         * @return the epoch millis before which {@link #evaluate(ZonedDateTime)} cannot fire
+         */
+        abstract long nextCheck(ZonedDateTime now);
+
         public String getId() {
             return id;
         }
@@ -267,6 +301,15 @@ public class SimpleScheduler implements Scheduler {
             return null;
         }
 
+        @Override
+        long nextCheck(ZonedDateTime now) {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
@@ -312,6 +355,17 @@ public class SimpleScheduler implements Scheduler {
             return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
         }
 
+        @Override
+        long nextCheck(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start.toInstant().toEpochMilli();
+            }
+            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(now);
+            // No more executions - the task is never evaluated again
+            return nextFireTime.isPresent() ? nextFireTime.get().truncatedTo(ChronoUnit.SECONDS).toInstant().toEpochMilli()
+                    : Long.MAX_VALUE;
+        }
+
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
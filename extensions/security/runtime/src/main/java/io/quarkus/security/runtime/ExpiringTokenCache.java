@@ -0,0 +1,179 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Bounded cache of values derived from bearer tokens, such as verification results, used by the token based
+ * authentication mechanisms to avoid verifying the same token on every request.
+ * <p>
+ * Callers should not use the raw token as the key but a hash of it, see {@code io.quarkus.runtime.util.HashUtil}.
+ * An entry expires after the configured time to live, or earlier if an expiry time is given when it is added.
+ * When the cache is full the expired entries are removed, and if it is still full new entries are not added.
+ *
+ * @param <T> the type of the cached values
+ */
+public class ExpiringTokenCache<T> {
+
+    private static final Logger log = Logger.getLogger(ExpiringTokenCache.class);
+
+    private final Map<String, CacheEntry<T>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of entries, the cache is disabled if it is not positive
+     * @param timeToLive the maximum amount of time an entry is valid for
+     */
+    public ExpiringTokenCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return the cached value, or {@code null} if there is no entry for this key or it has expired
+     */
+    public T get(String key) {
+        return get(key, Function.identity());
+    }
+
+    /**
+     * Looks up an entry and maps its value, the lookup is counted as a hit if the mapped value is not {@code null}.
+     * This is useful when the cached value holds several results that are not always all present.
+     */
+    public <R> R get(String key, Function<T, R> mapper) {
+        if (!isEnabled()) {
+            return null;
+        }
+        CacheEntry<T> entry = getEntry(key, System.currentTimeMillis());
+        R result = entry == null ? null : mapper.apply(entry.value);
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Adds or replaces an entry.
+     *
+     * @param expiresAt the time in milliseconds since the epoch after which the entry is no longer valid, or {@code 0}
+     *        if it only expires after the time to live
+     */
+    public void put(String key, T value, long expiresAt) {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long entryExpiresAt = expiresAt(now, expiresAt);
+        if (entryExpiresAt <= now || (!entries.containsKey(key) && !ensureCapacity(now))) {
+            return;
+        }
+        entries.put(key, new CacheEntry<>(value, entryExpiresAt));
+    }
+
+    /**
+     * Returns the value of a live entry, or adds a new one created by the supplier. The expiry time of an existing
+     * entry is reduced to {@code expiresAt} if it is earlier. The lookup is not counted as a hit or a miss.
+     *
+     * @param expiresAt the time in milliseconds since the epoch after which the entry is no longer valid, or {@code 0}
+     *        if it only expires after the time to live
+     * @return the cached value, or {@code null} if the cache is disabled, full, or if {@code expiresAt} has passed
+     */
+    public T getOrCreate(String key, long expiresAt, Supplier<T> supplier) {
+        if (!isEnabled()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        long entryExpiresAt = expiresAt(now, expiresAt);
+        if (entryExpiresAt <= now) {
+            return null;
+        }
+        CacheEntry<T> entry = getEntry(key, now);
+        if (entry != null) {
+            if (entryExpiresAt < entry.expiresAt) {
+                entry.expiresAt = entryExpiresAt;
+            }
+            return entry.value;
+        }
+        if (!ensureCapacity(now)) {
+            return null;
+        }
+        CacheEntry<T> newEntry = new CacheEntry<>(supplier.get(), entryExpiresAt);
+        entry = entries.putIfAbsent(key, newEntry);
+        return entry == null ? newEntry.value : entry.value;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private long expiresAt(long now, long expiresAt) {
+        long entryExpiresAt = now + timeToLiveMillis;
+        return expiresAt > 0 ? Math.min(entryExpiresAt, expiresAt) : entryExpiresAt;
+    }
+
+    private CacheEntry<T> getEntry(String key, long now) {
+        CacheEntry<T> entry = entries.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private boolean ensureCapacity(long now) {
+        if (entries.size() >= maxSize) {
+            removeExpiredEntries(now);
+            if (entries.size() >= maxSize) {
+                log.debugf("Token cache is full, %d entries", maxSize);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeExpiredEntries(long now) {
+        for (Iterator<CacheEntry<T>> it = entries.values().iterator(); it.hasNext();) {
+            if (it.next().isExpired(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class CacheEntry<T> {
+        final T value;
+        volatile long expiresAt;
+
+        CacheEntry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
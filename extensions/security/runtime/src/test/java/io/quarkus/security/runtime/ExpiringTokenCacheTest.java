@@ -0,0 +1,88 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class ExpiringTokenCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        ExpiringTokenCache<String> cache = new ExpiringTokenCache<>(2, Duration.ofMinutes(3));
+        assertNull(cache.get("key"));
+        cache.put("key", "value", 0);
+        assertEquals("value", cache.get("key"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testMappedValueCountsAsMissIfNull() {
+        ExpiringTokenCache<String[]> cache = new ExpiringTokenCache<>(2, Duration.ofMinutes(3));
+        cache.put("key", new String[1], 0);
+        Function<String[], String> first = new Function<String[], String>() {
+            @Override
+            public String apply(String[] value) {
+                return value[0];
+            }
+        };
+        assertNull(cache.get("key", first));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testExpiredEntriesAreNotCached() {
+        ExpiringTokenCache<String> cache = new ExpiringTokenCache<>(2, Duration.ofMinutes(3));
+        cache.put("key", "value", System.currentTimeMillis() - 1);
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+
+        cache = new ExpiringTokenCache<>(2, Duration.ZERO);
+        cache.put("key", "value", 0);
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        ExpiringTokenCache<String> cache = new ExpiringTokenCache<>(2, Duration.ofMinutes(3));
+        cache.put("key1", "value1", 0);
+        cache.put("key2", "value2", 0);
+        cache.put("key3", "value3", 0);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("key3"));
+        // an existing entry can still be replaced
+        cache.put("key1", "value4", 0);
+        assertEquals("value4", cache.get("key1"));
+    }
+
+    @Test
+    public void testGetOrCreate() {
+        ExpiringTokenCache<StringBuilder> cache = new ExpiringTokenCache<>(1, Duration.ofMinutes(3));
+        StringBuilder value = cache.getOrCreate("key", 0, StringBuilder::new);
+        assertSame(value, cache.getOrCreate("key", 0, StringBuilder::new));
+        // the cache is full
+        assertNull(cache.getOrCreate("other", 0, StringBuilder::new));
+        // the expiry time of the existing entry is reduced
+        assertSame(value, cache.getOrCreate("key", System.currentTimeMillis() + 60_000, StringBuilder::new));
+        assertNull(cache.getOrCreate("key", System.currentTimeMillis() - 1, StringBuilder::new));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        ExpiringTokenCache<String> cache = new ExpiringTokenCache<>(0, Duration.ofMinutes(3));
+        cache.put("key", "value", 0);
+        assertNull(cache.get("key"));
+        assertNull(cache.getOrCreate("key", 0, () -> "value"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+}
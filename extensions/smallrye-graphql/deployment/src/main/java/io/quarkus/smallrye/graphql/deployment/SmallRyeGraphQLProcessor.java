@@ -205,6 +205,7 @@ public class SmallRyeGraphQLProcessor {
             LaunchModeBuildItem launchMode,
             BodyHandlerBuildItem bodyHandlerBuildItem,
             SmallRyeGraphQLConfig graphQLConfig,
+            SmallRyeGraphQLRuntimeConfig runtimeConfig,
             BeanContainerBuildItem beanContainerBuildItem // don't remove this - makes sure beanContainer is initialized
     ) {
 
@@ -212,7 +213,7 @@ public class SmallRyeGraphQLProcessor {
          * <em>Ugly Hack</em>
          * In dev mode, we pass a classloader to use in the CDI Loader.
          * This hack is required because using the TCCL would get an outdated version - the initial one.
-         * This is because the worker thread on which the handler is called captures the TCCL at creation time
+         * This is because the worker thread on which the query is executed captures the TCCL at creation time
          * and does not allow updating it.
          *
          * In non dev mode, the TCCL is used.
@@ -233,11 +234,10 @@ public class SmallRyeGraphQLProcessor {
         Boolean allowGet = ConfigProvider.getConfig().getOptionalValue(ConfigKey.ALLOW_GET, boolean.class).orElse(false);
 
         Handler<RoutingContext> executionHandler = recorder.executionHandler(graphQLInitializedBuildItem.getInitialized(),
-                allowGet);
+                allowGet, runtimeConfig);
         routeProducer.produce(new RouteBuildItem.Builder()
                 .routeFunction(recorder.routeFunction(graphQLConfig.rootPath, bodyHandlerBuildItem.getHandler()))
                 .handler(executionHandler)
-                .blockingRoute()
                 .build());
 
     }
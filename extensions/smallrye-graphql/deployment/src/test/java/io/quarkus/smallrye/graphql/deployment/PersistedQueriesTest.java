@@ -0,0 +1,86 @@
+package io.quarkus.smallrye.graphql.deployment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.hamcrest.CoreMatchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Make sure that automatic persisted queries work
+ */
+public class PersistedQueriesTest extends AbstractGraphQLTest {
+
+    private static final String PING = "{\n  ping {\n    message\n  }\n}";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestResource.class, TestPojo.class, TestRandom.class, TestGenericsPojo.class)
+                    .addAsResource(new StringAsset(getPropertyAsString(configuration())), "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"));
+
+    @Test
+    public void testPersistedQuery() {
+        String sha256Hash = HashUtil.sha256(PING);
+
+        // the query is not known yet
+        post(createPersistedQueryRequest(null, sha256Hash), 200, "PERSISTED_QUERY_NOT_FOUND");
+
+        // the query is sent with its hash, and stored
+        post(createPersistedQueryRequest(PING, sha256Hash), 200, "{\"data\":{\"ping\":{\"message\":\"pong\"}}}");
+
+        // the hash is enough from now on
+        post(createPersistedQueryRequest(null, sha256Hash), 200, "{\"data\":{\"ping\":{\"message\":\"pong\"}}}");
+    }
+
+    @Test
+    public void testPersistedQueryHashMismatch() {
+        post(createPersistedQueryRequest(PING, HashUtil.sha256("{ foo { message } }")), 400,
+                "provided sha does not match query");
+    }
+
+    private void post(JsonObject request, int statusCode, String expectedBody) {
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request.toString())
+                .post("/graphql")
+                .then()
+                .assertThat()
+                .statusCode(statusCode)
+                .and()
+                .body(CoreMatchers.containsString(expectedBody));
+    }
+
+    private JsonObject createPersistedQueryRequest(String query, String sha256Hash) {
+        JsonObjectBuilder request = Json.createObjectBuilder()
+                .add("extensions", Json.createObjectBuilder()
+                        .add("persistedQuery", Json.createObjectBuilder()
+                                .add("version", 1)
+                                .add("sha256Hash", sha256Hash)));
+        if (query != null) {
+            request.add(QUERY, query);
+        }
+        return request.build();
+    }
+
+    private static Map<String, String> configuration() {
+        Map<String, String> m = new HashMap<>();
+        m.put("quarkus.smallrye-graphql.persisted-queries.enabled", "true");
+        return m;
+    }
+}
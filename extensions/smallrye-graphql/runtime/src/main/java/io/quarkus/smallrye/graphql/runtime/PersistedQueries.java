@@ -0,0 +1,53 @@
+package io.quarkus.smallrye.graphql.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Bounded store of the automatic persisted queries, keyed by the SHA-256 hash of the query.
+ * <p>
+ * A client first sends the hash of the query only, and if it is unknown it sends the hash together with the query,
+ * which is then stored so that the following requests can send the hash only. When the store is full the new queries
+ * are not stored, and the clients keep sending the full query.
+ */
+public class PersistedQueries {
+
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public PersistedQueries(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the query with this hash, or null if it has not been stored
+     */
+    public String get(String sha256Hash) {
+        return queries.get(sha256Hash);
+    }
+
+    /**
+     * Stores a query sent with its hash.
+     *
+     * @return false if the hash is not the hash of the query
+     */
+    public boolean put(String sha256Hash, String query) {
+        if (!queries.containsKey(sha256Hash)) {
+            if (!HashUtil.sha256(query).equals(sha256Hash)) {
+                return false;
+            }
+            if (queries.size() < maxSize) {
+                queries.putIfAbsent(sha256Hash, query);
+            }
+        } else if (!query.equals(queries.get(sha256Hash))) {
+            return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        return queries.size();
+    }
+}
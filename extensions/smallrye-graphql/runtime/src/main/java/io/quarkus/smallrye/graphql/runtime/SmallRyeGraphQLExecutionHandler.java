@@ -1,11 +1,11 @@
 package io.quarkus.smallrye.graphql.runtime;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import javax.json.Json;
@@ -14,9 +14,14 @@ import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
 import javax.json.JsonWriter;
 import javax.json.JsonWriterFactory;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
@@ -24,7 +29,9 @@ import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.smallrye.graphql.execution.ExecutionService;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
@@ -38,48 +45,28 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
     private static boolean allowGet = false;
     private static final String QUERY = "query";
     private static final String VARIABLES = "variables";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
     private static final String OK = "OK";
     private volatile ExecutionService executionService;
     private final CurrentIdentityAssociation currentIdentityAssociation;
     private final CurrentVertxRequest currentVertxRequest;
+    private final PersistedQueries persistedQueries;
     private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
     private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
     private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
 
     public SmallRyeGraphQLExecutionHandler(boolean allowGet, CurrentIdentityAssociation currentIdentityAssociation,
-            CurrentVertxRequest currentVertxRequest) {
+            CurrentVertxRequest currentVertxRequest, PersistedQueries persistedQueries) {
         SmallRyeGraphQLExecutionHandler.allowGet = allowGet;
         this.currentIdentityAssociation = currentIdentityAssociation;
         this.currentVertxRequest = currentVertxRequest;
+        this.persistedQueries = persistedQueries;
     }
 
     @Override
     public void handle(final RoutingContext ctx) {
-        ManagedContext requestContext = Arc.container().requestContext();
-        if (requestContext.isActive()) {
-            doHandle(ctx);
-        } else {
-            try {
-                requestContext.activate();
-                doHandle(ctx);
-            } finally {
-                requestContext.terminate();
-            }
-        }
-    }
-
-    private void doHandle(final RoutingContext ctx) {
-        if (currentIdentityAssociation != null) {
-            QuarkusHttpUser existing = (QuarkusHttpUser) ctx.user();
-            if (existing != null) {
-                SecurityIdentity identity = existing.getSecurityIdentity();
-                currentIdentityAssociation.setIdentity(identity);
-            } else {
-                currentIdentityAssociation.setIdentity(QuarkusHttpUser.getSecurityIdentity(ctx, null));
-            }
-        }
-        currentVertxRequest.setCurrent(ctx);
-
         HttpServerRequest request = ctx.request();
         HttpServerResponse response = ctx.response();
 
@@ -108,9 +95,8 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
 
     private void handlePost(HttpServerResponse response, RoutingContext ctx) {
         if (ctx.getBody() != null) {
-            byte[] bytes = ctx.getBody().getBytes();
-            String postResponse = doRequest(bytes);
-            response.setStatusCode(200).setStatusMessage(OK).end(Buffer.buffer(postResponse));
+            JsonObject jsonInput = toJsonObject(ctx.getBody());
+            doRequest(ctx, jsonInput);
         } else {
             response.setStatusCode(204).end();
         }
@@ -119,22 +105,25 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
     private void handleGet(HttpServerResponse response, RoutingContext ctx) {
         if (allowGet) {
             String query = getQueryParameter(ctx, QUERY);
-            if (query != null && !query.isEmpty()) {
+            String extensions = getQueryParameter(ctx, EXTENSIONS);
+            if ((query != null && !query.isEmpty()) || (persistedQueries != null && extensions != null)) {
                 try {
                     String variables = getQueryParameter(ctx, VARIABLES);
 
                     JsonObjectBuilder input = jsonObjectFactory.createObjectBuilder();
-                    input.add(QUERY, URLDecoder.decode(query, "UTF8"));
+                    if (query != null && !query.isEmpty()) {
+                        input.add(QUERY, URLDecoder.decode(query, "UTF8"));
+                    }
                     if (variables != null && !variables.isEmpty()) {
                         JsonObject jsonObject = toJsonObject(URLDecoder.decode(variables, "UTF8"));
                         input.add(VARIABLES, jsonObject);
                     }
+                    if (extensions != null && !extensions.isEmpty()) {
+                        JsonObject jsonObject = toJsonObject(URLDecoder.decode(extensions, "UTF8"));
+                        input.add(EXTENSIONS, jsonObject);
+                    }
 
-                    String getResponse = doRequest(input.build());
-
-                    response.setStatusCode(200)
-                            .setStatusMessage(OK)
-                            .end(Buffer.buffer(getResponse));
+                    doRequest(ctx, input.build());
                 } catch (UnsupportedEncodingException ex) {
                     throw new RuntimeException(ex);
                 }
@@ -162,31 +151,131 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
         }
     }
 
-    private String doRequest(final byte[] body) {
-        try (ByteArrayInputStream input = new ByteArrayInputStream(body);
-                final JsonReader jsonReader = jsonReaderFactory.createReader(input)) {
-            JsonObject jsonInput = jsonReader.readObject();
-            return doRequest(jsonInput);
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
+    private void doRequest(RoutingContext ctx, JsonObject jsonInput) {
+        if (persistedQueries != null) {
+            jsonInput = resolvePersistedQuery(ctx.response(), jsonInput);
+            if (jsonInput == null) {
+                return;
+            }
         }
+        JsonObject executionInput = jsonInput;
+        // the request is handled on the event loop, only the execution itself may block and is run on a worker thread
+        ctx.vertx().executeBlocking(new Handler<Promise<JsonObject>>() {
+            @Override
+            public void handle(Promise<JsonObject> promise) {
+                promise.complete(execute(ctx, executionInput));
+            }
+        }, false, new Handler<AsyncResult<JsonObject>>() {
+            @Override
+            public void handle(AsyncResult<JsonObject> result) {
+                if (result.failed()) {
+                    ctx.fail(result.cause());
+                } else if (result.result() != null) {
+                    ctx.response().setStatusCode(200).setStatusMessage(OK).end(toBuffer(result.result()));
+                } else {
+                    ctx.response().setStatusCode(200).setStatusMessage(OK).end();
+                }
+            }
+        });
     }
 
-    private String doRequest(JsonObject jsonInput) {
-        JsonObject outputJson = getExecutionService().execute(jsonInput);
-        if (outputJson != null) {
-            try (StringWriter output = new StringWriter();
-                    final JsonWriter jsonWriter = jsonWriterFactory.createWriter(output)) {
-                jsonWriter.writeObject(outputJson);
-                output.flush();
-                return output.toString();
-            } catch (IOException ex) {
-                throw new RuntimeException(ex);
+    private JsonObject execute(RoutingContext ctx, JsonObject jsonInput) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return doExecute(ctx, jsonInput);
+        } else {
+            try {
+                requestContext.activate();
+                return doExecute(ctx, jsonInput);
+            } finally {
+                requestContext.terminate();
             }
         }
+    }
+
+    private JsonObject doExecute(RoutingContext ctx, JsonObject jsonInput) {
+        if (currentIdentityAssociation != null) {
+            QuarkusHttpUser existing = (QuarkusHttpUser) ctx.user();
+            if (existing != null) {
+                SecurityIdentity identity = existing.getSecurityIdentity();
+                currentIdentityAssociation.setIdentity(identity);
+            } else {
+                currentIdentityAssociation.setIdentity(QuarkusHttpUser.getSecurityIdentity(ctx, null));
+            }
+        }
+        currentVertxRequest.setCurrent(ctx);
+        return getExecutionService().execute(jsonInput);
+    }
+
+    /**
+     * Handles the automatic persisted queries: a request may contain the hash of the query in
+     * {@code extensions.persistedQuery.sha256Hash} and no query, if the query has been sent before with its hash.
+     *
+     * @return the input with the query, or null if an error has been sent
+     */
+    private JsonObject resolvePersistedQuery(HttpServerResponse response, JsonObject jsonInput) {
+        String sha256Hash = getPersistedQueryHash(jsonInput);
+        if (sha256Hash == null) {
+            return jsonInput;
+        }
+        String query = jsonInput.containsKey(QUERY) && jsonInput.get(QUERY).getValueType() == JsonValue.ValueType.STRING
+                ? jsonInput.getString(QUERY)
+                : null;
+        if (query == null || query.isEmpty()) {
+            query = persistedQueries.get(sha256Hash);
+            if (query == null) {
+                // the client sends the query with its hash when it gets this error
+                sendError(response, 200, "PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND");
+                return null;
+            }
+            return jsonObjectFactory.createObjectBuilder(jsonInput).add(QUERY, query).build();
+        }
+        if (!persistedQueries.put(sha256Hash, query)) {
+            sendError(response, 400, "provided sha does not match query", "INTERNAL_SERVER_ERROR");
+            return null;
+        }
+        return jsonInput;
+    }
+
+    private static String getPersistedQueryHash(JsonObject jsonInput) {
+        JsonObject extensions = getJsonObject(jsonInput, EXTENSIONS);
+        JsonObject persistedQuery = extensions == null ? null : getJsonObject(extensions, PERSISTED_QUERY);
+        if (persistedQuery != null && persistedQuery.containsKey(SHA256_HASH)
+                && persistedQuery.get(SHA256_HASH).getValueType() == JsonValue.ValueType.STRING) {
+            return persistedQuery.getString(SHA256_HASH);
+        }
         return null;
     }
 
+    private static JsonObject getJsonObject(JsonObject jsonObject, String name) {
+        JsonValue value = jsonObject.get(name);
+        if (value != null && value.getValueType() == JsonValue.ValueType.OBJECT) {
+            return value.asJsonObject();
+        }
+        return null;
+    }
+
+    private static void sendError(HttpServerResponse response, int statusCode, String message, String code) {
+        JsonObject error = jsonObjectFactory.createObjectBuilder()
+                .add("message", message)
+                .add(EXTENSIONS, jsonObjectFactory.createObjectBuilder().add("code", code))
+                .build();
+        JsonObject outputJson = jsonObjectFactory.createObjectBuilder()
+                .add("errors", jsonObjectFactory.createArrayBuilder().add(error))
+                .build();
+        response.setStatusCode(statusCode).end(toBuffer(outputJson));
+    }
+
+    private static JsonObject toJsonObject(Buffer body) {
+        // the body is read in place, without copying it to a byte array first
+        try (InputStream input = new ByteBufInputStream(body.getByteBuf());
+                JsonReader jsonReader = jsonReaderFactory.createReader(input, StandardCharsets.UTF_8)) {
+            return jsonReader.readObject();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     private static JsonObject toJsonObject(String jsonString) {
         if (jsonString == null || jsonString.isEmpty()) {
             return null;
@@ -197,6 +286,16 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
         }
     }
 
+    private static Buffer toBuffer(JsonObject outputJson) {
+        // the response is written directly to the buffer sent to the client, without an intermediate String
+        ByteBuf byteBuf = Unpooled.buffer();
+        try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(new ByteBufOutputStream(byteBuf),
+                StandardCharsets.UTF_8)) {
+            jsonWriter.writeObject(outputJson);
+        }
+        return Buffer.buffer(byteBuf);
+    }
+
     private ExecutionService getExecutionService() {
         if (this.executionService == null) {
             this.executionService = Arc.container().instance(ExecutionService.class).get();
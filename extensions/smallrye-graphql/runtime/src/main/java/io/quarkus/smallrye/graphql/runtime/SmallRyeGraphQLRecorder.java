@@ -31,7 +31,8 @@ public class SmallRyeGraphQLRecorder {
         return new RuntimeValue<>(graphQLSchema != null);
     }
 
-    public Handler<RoutingContext> executionHandler(RuntimeValue<Boolean> initialized, boolean allowGet) {
+    public Handler<RoutingContext> executionHandler(RuntimeValue<Boolean> initialized, boolean allowGet,
+            SmallRyeGraphQLRuntimeConfig runtimeConfig) {
         if (initialized.getValue()) {
             Instance<CurrentIdentityAssociation> identityAssociations = CDI.current()
                     .select(CurrentIdentityAssociation.class);
@@ -42,7 +43,10 @@ public class SmallRyeGraphQLRecorder {
                 association = null;
             }
             CurrentVertxRequest currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
-            return new SmallRyeGraphQLExecutionHandler(allowGet, association, currentVertxRequest);
+            PersistedQueries persistedQueries = runtimeConfig.persistedQueriesEnabled
+                    ? new PersistedQueries(runtimeConfig.persistedQueriesMaxSize)
+                    : null;
+            return new SmallRyeGraphQLExecutionHandler(allowGet, association, currentVertxRequest, persistedQueries);
         } else {
             return new SmallRyeGraphQLNoEndpointHandler();
         }
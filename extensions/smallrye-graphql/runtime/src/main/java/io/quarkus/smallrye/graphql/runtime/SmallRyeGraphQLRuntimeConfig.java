@@ -13,4 +13,17 @@ public class SmallRyeGraphQLRuntimeConfig {
     @ConfigItem(name = "ui.enable", defaultValue = "true")
     boolean enable;
 
+    /**
+     * If automatic persisted queries should be enabled. A client can then send the SHA-256 hash of a query
+     * in {@code extensions.persistedQuery.sha256Hash} instead of the query, once the query has been sent with its hash.
+     */
+    @ConfigItem(name = "persisted-queries.enabled", defaultValue = "false")
+    boolean persistedQueriesEnabled;
+
+    /**
+     * The maximum number of persisted queries which are stored. Once it is reached the new queries are not stored.
+     */
+    @ConfigItem(name = "persisted-queries.max-size", defaultValue = "1000")
+    int persistedQueriesMaxSize;
+
 }
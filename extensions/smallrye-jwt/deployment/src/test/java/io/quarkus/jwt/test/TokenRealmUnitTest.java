@@ -6,15 +6,19 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
+import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.credential.TokenCredential;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.AnonymousIdentityProvider;
+import io.quarkus.security.runtime.ExpiringTokenCache;
 import io.quarkus.security.runtime.QuarkusIdentityProviderManagerImpl;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
 import io.smallrye.jwt.auth.principal.DefaultJWTParser;
@@ -49,6 +53,31 @@ public class TokenRealmUnitTest {
         Assertions.assertEquals("jdoe@example.com", securityIdentity.getPrincipal().getName());
     }
 
+    @Test
+    public void testVerifiedTokenCache() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        JWTAuthContextInfo contextInfo = new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(),
+                "https://server.example.com");
+        ExpiringTokenCache<JsonWebToken> tokenCache = new ExpiringTokenCache<>(1, Duration.ofMinutes(3));
+        MpJwtValidator jwtValidator = new MpJwtValidator(new DefaultJWTParser(contextInfo), tokenCache);
+
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenRealm");
+        TokenAuthenticationRequest tokenEvidence = new TokenAuthenticationRequest(new TokenCredential(jwt, "bearer"));
+        SecurityIdentity first = jwtValidator.authenticate(tokenEvidence, null).await().indefinitely();
+        SecurityIdentity second = jwtValidator.authenticate(tokenEvidence, null).await().indefinitely();
+        Assertions.assertEquals("jdoe@example.com", second.getPrincipal().getName());
+        Assertions.assertSame(first.getPrincipal(), second.getPrincipal());
+        Assertions.assertEquals(1, tokenCache.getHits());
+        Assertions.assertEquals(1, tokenCache.getMisses());
+
+        // the cache is full, a token signed with another key is verified and rejected
+        String otherJwt = TokenUtils.generateTokenString("/Token1.json", generateKeyPair().getPrivate(), "testTokenRealm");
+        TokenAuthenticationRequest otherEvidence = new TokenAuthenticationRequest(new TokenCredential(otherJwt, "bearer"));
+        Assertions.assertThrows(AuthenticationFailedException.class,
+                () -> jwtValidator.authenticate(otherEvidence, null).await().indefinitely());
+        Assertions.assertEquals(1, tokenCache.size());
+    }
+
     private KeyPair generateKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
         generator.initialize(2048); // because that's the minimal accepted size
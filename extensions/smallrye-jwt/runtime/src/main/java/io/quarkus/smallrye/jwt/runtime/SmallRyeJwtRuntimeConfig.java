@@ -0,0 +1,40 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * runtime configuration
+ */
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * The cache of the verified tokens
+     */
+    @ConfigItem
+    public TokenCache tokenCache;
+
+    @ConfigGroup
+    public static class TokenCache {
+        /**
+         * Maximum number of verified tokens which are cached, so that a token presented again is not parsed
+         * and its signature is not verified again.
+         * The cache is disabled by default, set this property to a positive value to enable it.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize;
+
+        /**
+         * Maximum amount of time a verified token is cached for. A token is also removed from the cache once it expires.
+         * <p>
+         * Note that a cached token is still accepted for this amount of time if the verification key is rotated.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive;
+    }
+}
@@ -8,12 +8,15 @@ import javax.inject.Inject;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.ExpiringTokenCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
@@ -29,13 +32,25 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
 
+    final ExpiringTokenCache<JsonWebToken> tokenCache;
+
     public MpJwtValidator() {
         this.parser = null;
+        this.tokenCache = null;
     }
 
-    @Inject
     public MpJwtValidator(JWTParser parser) {
+        this(parser, (ExpiringTokenCache<JsonWebToken>) null);
+    }
+
+    @Inject
+    public MpJwtValidator(JWTParser parser, SmallRyeJwtRuntimeConfig config) {
+        this(parser, new ExpiringTokenCache<>(config.tokenCache.maxSize, config.tokenCache.timeToLive));
+    }
+
+    public MpJwtValidator(JWTParser parser, ExpiringTokenCache<JsonWebToken> tokenCache) {
         this.parser = parser;
+        this.tokenCache = tokenCache != null && tokenCache.isEnabled() ? tokenCache : null;
     }
 
     @Override
@@ -50,7 +65,7 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                 try {
-                    JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
+                    JsonWebToken jwtPrincipal = parse(request.getToken().getToken());
                     uniEmitter.complete(QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
                             .addRoles(jwtPrincipal.getGroups())
                             .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build());
@@ -63,4 +78,18 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
         });
 
     }
+
+    private JsonWebToken parse(String token) throws ParseException {
+        if (tokenCache == null) {
+            return parser.parse(token);
+        }
+        // the signature of a cached token has already been verified, the exact same token is not verified again
+        String key = HashUtil.sha256(token);
+        JsonWebToken jwtPrincipal = tokenCache.get(key);
+        if (jwtPrincipal == null) {
+            jwtPrincipal = parser.parse(token);
+            tokenCache.put(key, jwtPrincipal, jwtPrincipal.getExpirationTime() * 1000);
+        }
+        return jwtPrincipal;
+    }
 }
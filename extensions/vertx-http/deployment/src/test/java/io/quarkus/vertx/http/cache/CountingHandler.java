@@ -0,0 +1,42 @@
+package io.quarkus.vertx.http.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.CookieImpl;
+
+@ApplicationScoped
+public class CountingHandler {
+
+    private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    public void handler(@Observes Router router) {
+        router.route("/cached/*").handler(new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext event) {
+                event.response().putHeader("Content-Type", "text/plain");
+                event.response().setChunked(true);
+                event.response().write(event.normalisedPath() + ":");
+                event.response().end(Integer.toString(count(event)));
+            }
+        });
+        router.route("/cookie").handler(new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext event) {
+                event.response().addCookie(new CookieImpl("cookie1", "value1"));
+                event.response().end(event.normalisedPath() + ":" + count(event));
+            }
+        });
+    }
+
+    private int count(RoutingContext event) {
+        return counters.computeIfAbsent(event.normalisedPath(), k -> new AtomicInteger()).incrementAndGet();
+    }
+}
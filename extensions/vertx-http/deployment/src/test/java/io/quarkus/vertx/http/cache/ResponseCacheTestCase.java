@@ -0,0 +1,89 @@
+package io.quarkus.vertx.http.cache;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ResponseCacheTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(CountingHandler.class)
+                            .addAsResource(new StringAsset(
+                                    "quarkus.http.response-cache.enabled=true\n" +
+                                            "quarkus.http.response-cache.paths=/cached/*,/cookie\n" +
+                                            "quarkus.http.response-cache.ttl=1H\n"),
+                                    "application.properties");
+                }
+            });
+
+    @Test
+    public void testCacheHit() {
+        RestAssured.get("/cached/hit")
+                .then().statusCode(200)
+                .body(equalTo("/cached/hit:1"))
+                .header("Transfer-Encoding", "chunked");
+        // the chunked response is replayed with a content length only
+        RestAssured.get("/cached/hit")
+                .then().statusCode(200)
+                .body(equalTo("/cached/hit:1"))
+                .header("Content-Type", "text/plain")
+                .header("ETag", notNullValue())
+                .header("Content-Length", "13")
+                .header("Transfer-Encoding", nullValue());
+    }
+
+    @Test
+    public void testNotModified() {
+        RestAssured.get("/cached/etag").then().statusCode(200).body(equalTo("/cached/etag:1"));
+        // the ETag is added to the cached response
+        String etag = RestAssured.get("/cached/etag")
+                .then().statusCode(200)
+                .body(equalTo("/cached/etag:1"))
+                .extract().header("ETag");
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/cached/etag")
+                .then().statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"other\"")
+                .get("/cached/etag")
+                .then().statusCode(200)
+                .body(equalTo("/cached/etag:1"));
+    }
+
+    @Test
+    public void testSetCookieNotCached() {
+        RestAssured.get("/cookie").then().statusCode(200).body(equalTo("/cookie:1"));
+        RestAssured.get("/cookie").then().statusCode(200).body(equalTo("/cookie:2"));
+    }
+
+    @Test
+    public void testCredentialsBypassCache() {
+        RestAssured.given().header("Authorization", "Bearer token")
+                .get("/cached/credentials")
+                .then().statusCode(200).body(equalTo("/cached/credentials:1"));
+        RestAssured.get("/cached/credentials").then().statusCode(200).body(equalTo("/cached/credentials:2"));
+        // the response cached for the anonymous request is not served to requests with credentials
+        RestAssured.given().header("Authorization", "Bearer token")
+                .get("/cached/credentials")
+                .then().statusCode(200).body(equalTo("/cached/credentials:3"));
+        RestAssured.given().cookie("session", "value")
+                .get("/cached/credentials")
+                .then().statusCode(200).body(equalTo("/cached/credentials:4"));
+        RestAssured.get("/cached/credentials").then().statusCode(200).body(equalTo("/cached/credentials:2"));
+    }
+}
@@ -203,6 +203,11 @@ public class HttpConfiguration {
 
     AccessLogConfig accessLog;
 
+    /**
+     * The response cache config
+     */
+    public ResponseCacheConfig responseCache;
+
     /**
      * Configuration that allows setting the same site attributes for cookies.
      */
@@ -0,0 +1,71 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.configuration.TrimmedStringConverter;
+
+@ConfigGroup
+public class ResponseCacheConfig {
+
+    /**
+     * If responses to `GET` requests should be cached.
+     *
+     * Only successful responses to requests without an `Authorization` or a `Cookie` header, made by an anonymous user,
+     * are cached. Responses setting a cookie or
+     * marked with `Cache-Control: private` or `no-store` are never cached.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The paths of the cached responses.
+     *
+     * Comma separated list of paths. ex: /static-data,/reports/*
+     * A path ending with `/*` matches all the paths starting with the given prefix.
+     * Nothing is cached if this is not set.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    @ConvertWith(TrimmedStringConverter.class)
+    public Optional<List<String>> paths;
+
+    /**
+     * The request headers that are part of the cache key, in addition to the path and the query.
+     *
+     * Comma separated list of headers. ex: Accept,Accept-Language
+     * A response with a `Vary` header naming any other request header is not cached.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    @ConvertWith(TrimmedStringConverter.class)
+    public Optional<List<String>> varyHeaders;
+
+    /**
+     * How long a cached response is served.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration ttl;
+
+    /**
+     * The maximum number of cached responses.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxEntries;
+
+    /**
+     * The maximum size of a cached response body. Larger responses are not cached.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize maxBodySize;
+
+}
@@ -61,6 +61,7 @@ import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.quarkus.vertx.http.runtime.filters.ResponseCacheHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
@@ -399,6 +400,17 @@ public class VertxHttpRecorder {
             quarkusWrapperNeeded = true;
         }
 
+        ResponseCacheConfig responseCache = httpConfiguration.responseCache;
+        if (responseCache.enabled && responseCache.paths.isPresent()) {
+            ResponseCacheHandler handler = new ResponseCacheHandler(responseCache.paths.get(),
+                    responseCache.varyHeaders.orElse(Collections.emptyList()), responseCache.ttl.toMillis(),
+                    responseCache.maxEntries, responseCache.maxBodySize.asLongValue());
+            // after the filters, which are ordered by -1 * priority, including the authentication (200) and
+            // authorization (100) filters, so that the permission checks are applied to the cached responses
+            router.route().order(-1).handler(handler);
+            quarkusWrapperNeeded = true;
+        }
+
         BiConsumer<Cookie, HttpServerRequest> cookieFunction = null;
         if (!httpConfiguration.sameSiteCookie.isEmpty()) {
             cookieFunction = processSameSiteConfig(httpConfiguration.sameSiteCookie);
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -23,6 +24,13 @@ public class DateTimeAttribute implements ExchangeAttribute {
 
     private final DateTimeFormatter formatter;
 
+    // whether the pattern has no field smaller than a second
+    private final boolean cacheable;
+    /**
+     * The last formatted value, only used if the pattern does not contain any field smaller than a second.
+     */
+    private volatile CachedValue cached;
+
     private DateTimeAttribute() {
         this(COMMON_LOG_PATTERN, null);
     }
@@ -37,11 +45,37 @@ public class DateTimeAttribute implements ExchangeAttribute {
             fmt = fmt.withZone(ZoneId.of(timezone));
         }
         this.formatter = fmt;
+        this.cacheable = !hasSubSecondField(dateFormat);
     }
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        if (!cacheable) {
+            return formatter.format(ZonedDateTime.now());
+        }
+        long now = System.currentTimeMillis();
+        long second = now / 1000;
+        CachedValue value = cached;
+        if (value == null || value.second != second) {
+            // Requests logged within the same second share the formatted value
+            value = new CachedValue(second,
+                    formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault())));
+            cached = value;
+        }
+        return value.formatted;
+    }
+
+    static boolean hasSubSecondField(String dateFormat) {
+        boolean quoted = false;
+        for (int i = 0; i < dateFormat.length(); i++) {
+            char c = dateFormat.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -49,6 +83,17 @@ public class DateTimeAttribute implements ExchangeAttribute {
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private static final class CachedValue {
+
+        private final long second;
+        private final String formatted;
+
+        CachedValue(long second, String formatted) {
+            this.second = second;
+            this.formatted = formatted;
+        }
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
@@ -8,7 +8,9 @@ import java.util.function.BiConsumer;
 import org.jboss.logging.Logger;
 
 import io.quarkus.vertx.http.runtime.AbstractRequestWrapper;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
 import io.vertx.core.http.HttpServerRequest;
@@ -32,6 +34,7 @@ public class QuarkusRequestWrapper extends AbstractRequestWrapper {
     private final AbstractResponseWrapper response;
 
     private final List<Handler<Void>> requestDoneHandlers = new ArrayList<>();
+    private List<Handler<Buffer>> responseBodyHandlers;
     private final BiConsumer<Cookie, HttpServerRequest> cookieConsumer;
 
     public QuarkusRequestWrapper(HttpServerRequest event, BiConsumer<Cookie, HttpServerRequest> cookieConsumer) {
@@ -58,6 +61,24 @@ public class QuarkusRequestWrapper extends AbstractRequestWrapper {
         this.requestDoneHandlers.add(handler);
     }
 
+    /**
+     * Registers a handler that is notified with each chunk of the response body written through this wrapper.
+     * <p>
+     * Note that the content sent with {@link HttpServerResponse#sendFile(String)} is not passed to the handler.
+     */
+    public void addResponseBodyHandler(Handler<Buffer> handler) {
+        if (responseBodyHandlers == null) {
+            responseBodyHandlers = new ArrayList<>();
+        }
+        responseBodyHandlers.add(handler);
+    }
+
+    private void responseBodyChunk(Buffer chunk) {
+        for (Handler<Buffer> i : responseBodyHandlers) {
+            i.handle(chunk);
+        }
+    }
+
     @Override
     public HttpServerResponse response() {
         return response;
@@ -147,6 +168,102 @@ public class QuarkusRequestWrapper extends AbstractRequestWrapper {
             return this;
         }
 
+        @Override
+        public HttpServerResponse write(Buffer data) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(data);
+            }
+            return super.write(data);
+        }
+
+        @Override
+        public HttpServerResponse write(Buffer data, Handler<AsyncResult<Void>> handler) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(data);
+            }
+            return super.write(data, handler);
+        }
+
+        @Override
+        public HttpServerResponse write(String chunk, String enc) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk, enc));
+            }
+            return super.write(chunk, enc);
+        }
+
+        @Override
+        public HttpServerResponse write(String chunk, String enc, Handler<AsyncResult<Void>> handler) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk, enc));
+            }
+            return super.write(chunk, enc, handler);
+        }
+
+        @Override
+        public HttpServerResponse write(String chunk) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk));
+            }
+            return super.write(chunk);
+        }
+
+        @Override
+        public HttpServerResponse write(String chunk, Handler<AsyncResult<Void>> handler) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk));
+            }
+            return super.write(chunk, handler);
+        }
+
+        @Override
+        public void end(String chunk) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk));
+            }
+            super.end(chunk);
+        }
+
+        @Override
+        public void end(String chunk, Handler<AsyncResult<Void>> handler) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk));
+            }
+            super.end(chunk, handler);
+        }
+
+        @Override
+        public void end(String chunk, String enc) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk, enc));
+            }
+            super.end(chunk, enc);
+        }
+
+        @Override
+        public void end(String chunk, String enc, Handler<AsyncResult<Void>> handler) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(Buffer.buffer(chunk, enc));
+            }
+            super.end(chunk, enc, handler);
+        }
+
+        @Override
+        public void end(Buffer chunk) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(chunk);
+            }
+            super.end(chunk);
+        }
+
+        @Override
+        public void end(Buffer chunk, Handler<AsyncResult<Void>> handler) {
+            if (responseBodyHandlers != null) {
+                responseBodyChunk(chunk);
+            }
+            super.end(chunk, handler);
+        }
+
         @Override
         public HttpServerResponse addCookie(Cookie cookie) {
             if (cookieConsumer != null) {
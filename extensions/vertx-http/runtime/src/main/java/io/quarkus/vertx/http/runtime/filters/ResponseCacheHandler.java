@@ -0,0 +1,296 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler that caches the responses to {@code GET} requests for the configured paths.
+ * <p>
+ * The cache key is built from the path, the query and the values of the configured request headers. Cached bodies are
+ * stored as {@link Buffer}s that are written to each response without being copied. A weak {@code ETag} is added to the
+ * cached responses if not already present, and requests with a matching {@code If-None-Match} header get a
+ * {@code 304 Not Modified} response.
+ * <p>
+ * Requests carrying credentials, i.e. an {@code Authorization} or a {@code Cookie} header, or made by an authenticated
+ * user, are never served from the cache nor used to fill it. This handler must run after the authentication and
+ * authorization filters, so that a cached response is only served to the requests that are permitted.
+ * <p>
+ * This handler requires the {@link QuarkusRequestWrapper} in order to capture the response body.
+ */
+public class ResponseCacheHandler implements Handler<RoutingContext> {
+
+    /**
+     * The headers which are specific to a connection or to a single message, and are not stored
+     */
+    private static final Set<String> NOT_STORED_HEADERS = new TreeSet<>(Arrays.asList("connection", "keep-alive",
+            "proxy-authenticate", "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade", "date",
+            "content-length"));
+
+    private final List<String> exactPaths;
+    private final List<String> prefixPaths;
+    private final List<String> varyHeaders;
+    private final Set<String> varyHeadersLowerCase;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long maxBodySize;
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    public ResponseCacheHandler(List<String> paths, List<String> varyHeaders, long ttlMillis, int maxEntries,
+            long maxBodySize) {
+        this.exactPaths = new ArrayList<>();
+        this.prefixPaths = new ArrayList<>();
+        for (String path : paths) {
+            if (path.endsWith("/*")) {
+                prefixPaths.add(path.substring(0, path.length() - 1));
+            } else {
+                exactPaths.add(path);
+            }
+        }
+        this.varyHeaders = varyHeaders;
+        this.varyHeadersLowerCase = new TreeSet<>();
+        for (String header : varyHeaders) {
+            varyHeadersLowerCase.add(header.toLowerCase(Locale.ROOT));
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        HttpServerRequest request = event.request();
+        if (request.method() != HttpMethod.GET || !matches(event.normalisedPath()) || hasCredentials(event)) {
+            event.next();
+            return;
+        }
+        String key = cacheKey(request);
+        CachedResponse cached = cache.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                send(request, event.response(), cached);
+                return;
+            }
+            cache.remove(key, cached);
+        }
+
+        // the headers set by the previous handlers, e.g. the CORS filter, are set again when a cached response is sent
+        Set<String> previousHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        previousHeaders.addAll(event.response().headers().names());
+        BodyCapture body = new BodyCapture(maxBodySize);
+        QuarkusRequestWrapper.get(request).addResponseBodyHandler(body);
+        event.addBodyEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                if (!body.truncated) {
+                    store(key, event.response(), previousHeaders, body.body);
+                }
+            }
+        });
+        event.next();
+    }
+
+    private static boolean hasCredentials(RoutingContext event) {
+        MultiMap headers = event.request().headers();
+        if (headers.contains(HttpHeaderNames.AUTHORIZATION) || headers.contains(HttpHeaderNames.COOKIE)) {
+            return true;
+        }
+        QuarkusHttpUser user = event.user() instanceof QuarkusHttpUser ? (QuarkusHttpUser) event.user() : null;
+        return user != null && !user.getSecurityIdentity().isAnonymous();
+    }
+
+    boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        for (String exactPath : exactPaths) {
+            if (path.equals(exactPath)) {
+                return true;
+            }
+        }
+        for (String prefixPath : prefixPaths) {
+            if (path.startsWith(prefixPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cacheKey(HttpServerRequest request) {
+        String query = request.query();
+        if (varyHeaders.isEmpty()) {
+            return query == null ? request.path() : request.path() + '?' + query;
+        }
+        StringBuilder key = new StringBuilder(request.path());
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : varyHeaders) {
+            // The NUL character cannot appear in a path or a header value
+            key.append('\0');
+            String value = request.getHeader(header);
+            if (value != null) {
+                key.append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    private void send(HttpServerRequest request, HttpServerResponse response, CachedResponse cached) {
+        response.headers().addAll(cached.headers);
+        String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null && etagMatches(ifNoneMatch, cached.etag)) {
+            response.headers().remove(HttpHeaderNames.CONTENT_LENGTH);
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        response.setStatusCode(cached.statusCode).end(cached.body);
+    }
+
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        String value = ifNoneMatch.trim();
+        if (value.equals("*")) {
+            return true;
+        }
+        // If-None-Match uses the weak comparison
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : value.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void store(String key, HttpServerResponse response, Set<String> previousHeaders, Buffer body) {
+        if (response.getStatusCode() != HttpResponseStatus.OK.code() || !isCacheable(response.headers())) {
+            return;
+        }
+        String contentLength = response.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null && !contentLength.equals(Integer.toString(body.length()))) {
+            // Part of the body was not written through the wrapper, e.g. sendFile() was used
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxEntries) {
+            removeExpired(now);
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        for (Map.Entry<String, String> header : response.headers()) {
+            String name = header.getKey();
+            if (!NOT_STORED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !previousHeaders.contains(name)) {
+                headers.add(name, header.getValue());
+            }
+        }
+        String etag = headers.get(HttpHeaderNames.ETAG);
+        if (etag == null) {
+            etag = "W/\"" + Integer.toHexString(body.length()) + "-" + Integer.toHexString(body.hashCode()) + "\"";
+            headers.set(HttpHeaderNames.ETAG, etag);
+        }
+        cache.put(key, new CachedResponse(response.getStatusCode(), headers, body, etag, now + ttlMillis));
+    }
+
+    private boolean isCacheable(MultiMap headers) {
+        if (headers.contains(HttpHeaderNames.SET_COOKIE)) {
+            return false;
+        }
+        for (String cacheControl : headers.getAll(HttpHeaderNames.CACHE_CONTROL)) {
+            String value = cacheControl.toLowerCase(Locale.ROOT);
+            if (value.contains("no-store") || value.contains("private") || value.contains("no-cache")) {
+                return false;
+            }
+        }
+        for (String vary : headers.getAll(HttpHeaderNames.VARY)) {
+            for (String header : vary.split(",")) {
+                header = header.trim().toLowerCase(Locale.ROOT);
+                if (!header.isEmpty() && !varyHeadersLowerCase.contains(header)) {
+                    // The response depends on a request header that is not part of the key
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void removeExpired(long now) {
+        Iterator<CachedResponse> it = cache.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt <= now) {
+                it.remove();
+            }
+        }
+    }
+
+    // For testing purposes only.
+    Set<String> getCachedKeys() {
+        return Collections.unmodifiableSet(cache.keySet());
+    }
+
+    static final class BodyCapture implements Handler<Buffer> {
+
+        final Buffer body = Buffer.buffer();
+        final long maxBodySize;
+        boolean truncated;
+
+        BodyCapture(long maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public void handle(Buffer chunk) {
+            if (truncated) {
+                return;
+            }
+            if (body.length() + chunk.length() > maxBodySize) {
+                // the response is too large to be cached, stop capturing it
+                truncated = true;
+                return;
+            }
+            body.appendBuffer(chunk);
+        }
+    }
+
+    static final class CachedResponse {
+
+        final int statusCode;
+        final MultiMap headers;
+        final Buffer body;
+        final String etag;
+        final long expiresAt;
+
+        CachedResponse(int statusCode, MultiMap headers, Buffer body, String etag, long expiresAt) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
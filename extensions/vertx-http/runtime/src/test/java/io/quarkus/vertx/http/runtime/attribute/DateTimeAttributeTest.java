@@ -25,4 +25,18 @@ class DateTimeAttributeTest {
         Assertions.assertFalse(value.trim().isEmpty(), DateTimeAttribute.DATE_TIME_SHORT + " attribute returned empty value");
     }
 
+    @Test
+    void testSubSecondFieldDetection() {
+        Assertions.assertFalse(DateTimeAttribute.hasSubSecondField("[dd/MMM/yyyy:HH:mm:ss Z]"));
+        Assertions.assertFalse(DateTimeAttribute.hasSubSecondField("yyyy-MM-dd'T'HH:mm:ss 'SNAn'"));
+        Assertions.assertTrue(DateTimeAttribute.hasSubSecondField("HH:mm:ss.SSS"));
+        Assertions.assertTrue(DateTimeAttribute.hasSubSecondField("HH:mm:ss.nnnnnnnnn"));
+    }
+
+    @Test
+    void shouldReadSubSecondAttribute() {
+        DateTimeAttribute dta = new DateTimeAttribute("SSS");
+        assertThat(dta.readAttribute(null)).hasSize(3);
+    }
+
 }
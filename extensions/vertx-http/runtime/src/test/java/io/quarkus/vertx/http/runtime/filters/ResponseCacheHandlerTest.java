@@ -0,0 +1,50 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+class ResponseCacheHandlerTest {
+
+    @Test
+    void testPathMatching() {
+        ResponseCacheHandler handler = new ResponseCacheHandler(Arrays.asList("/static-data", "/reports/*"),
+                Collections.emptyList(), 1000, 10, 1024);
+        assertTrue(handler.matches("/static-data"));
+        assertFalse(handler.matches("/static-data/other"));
+        assertTrue(handler.matches("/reports/"));
+        assertTrue(handler.matches("/reports/2021/q1"));
+        assertFalse(handler.matches("/reports"));
+        assertFalse(handler.matches("/other"));
+        assertFalse(handler.matches(null));
+    }
+
+    @Test
+    void testEtagMatching() {
+        assertTrue(ResponseCacheHandler.etagMatches("W/\"a-1\"", "W/\"a-1\""));
+        assertTrue(ResponseCacheHandler.etagMatches("\"a-1\"", "W/\"a-1\""));
+        assertTrue(ResponseCacheHandler.etagMatches("\"b-2\", W/\"a-1\"", "\"a-1\""));
+        assertTrue(ResponseCacheHandler.etagMatches("*", "\"a-1\""));
+        assertFalse(ResponseCacheHandler.etagMatches("W/\"a-2\"", "W/\"a-1\""));
+    }
+
+    @Test
+    void testBodyCaptureLimit() {
+        ResponseCacheHandler.BodyCapture capture = new ResponseCacheHandler.BodyCapture(8);
+        capture.handle(Buffer.buffer("1234"));
+        capture.handle(Buffer.buffer("5678"));
+        assertFalse(capture.truncated);
+        assertEquals("12345678", capture.body.toString());
+        capture.handle(Buffer.buffer("9"));
+        assertTrue(capture.truncated);
+        assertEquals(8, capture.body.length());
+    }
+
+}
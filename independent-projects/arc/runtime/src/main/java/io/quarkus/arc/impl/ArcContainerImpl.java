@@ -83,6 +83,7 @@ public class ArcContainerImpl implements ArcContainer {
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ComputingCache<EventResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
@@ -142,6 +143,7 @@ public class ArcContainerImpl implements ArcContainer {
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -375,6 +377,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            resolvedObservers.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -669,25 +672,41 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * The result is cached; the returned list is unmodifiable.
+     *
+     * @param eventType
+     * @param eventQualifiers
+     * @return the observer methods resolved for the given event type and qualifiers
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
-        Qualifiers.verify(eventQualifiers);
         if (observers.isEmpty()) {
+            Qualifiers.verify(eventQualifiers);
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        return (List) resolvedObservers.getValue(new EventResolvable(eventType, eventQualifiers));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventResolvable resolvable) {
+        Qualifiers.verify(resolvable.qualifiers);
+        Set<Type> eventTypes = new HierarchyDiscovery(resolvable.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers, qualifierNonbindingMembers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || Qualifiers.isSubset(observer.getObservedQualifiers(), resolvable.qualifiers,
+                                qualifierNonbindingMembers)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
+        if (resolvedObservers.isEmpty()) {
+            return Collections.emptyList();
+        }
         // Observers with smaller priority values are called first
         Collections.sort(resolvedObservers, InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return Collections.unmodifiableList(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -842,4 +861,40 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    private static final class EventResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        EventResolvable(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            // Note that the qualifiers are not copied - they must not be modified after the event is fired
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + qualifiers.hashCode();
+            result = prime * result + eventType.hashCode();
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
 }
@@ -86,7 +86,8 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
+            // Async observers are resolved once per runtime type - there is no need to schedule the notification
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -141,10 +142,9 @@ class EventImpl<T> implements Event<T> {
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container) {
         EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>();
-        for (ObserverMethod<? super T> observerMethod : container.resolveObservers(eventType, qualifiers)) {
-            notifierObserverMethods.add(observerMethod);
-        }
+        // The resolved observers are cached by the container and the list is unmodifiable
+        List<ObserverMethod<? super T>> notifierObserverMethods = Collections
+                .unmodifiableList(container.resolveObservers(eventType, qualifiers));
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata);
     }
 
@@ -205,12 +205,14 @@ class EventImpl<T> implements Event<T> {
         private final List<ObserverMethod<? super T>> observerMethods;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
+        private final boolean hasAsyncObservers;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
+            this.hasAsyncObservers = observerMethods.stream().anyMatch(ObserverMethod::isAsync);
         }
 
         void notify(T event) {
@@ -291,6 +293,10 @@ class EventImpl<T> implements Event<T> {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return hasAsyncObservers;
+        }
+
         private boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
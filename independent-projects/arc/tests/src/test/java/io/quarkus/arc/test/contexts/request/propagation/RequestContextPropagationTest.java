@@ -3,6 +3,7 @@ package io.quarkus.arc.test.contexts.request.propagation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -44,6 +45,8 @@ public class RequestContextPropagationTest {
 
         // Store existing instances
         ContextState state = requestContext.getState();
+        // The state is not copied - capturing it again returns the same storage
+        assertSame(state, requestContext.getState());
 
         // Deactivate but don't destroy
         requestContext.deactivate();
@@ -52,6 +52,22 @@ public class AsyncObserverTest {
         assertFalse(events.get(0).endsWith(currentThread));
     }
 
+    @Test
+    public void testAsyncEventWithoutAsyncObservers() throws InterruptedException, ExecutionException, TimeoutException {
+        ArcContainer container = Arc.container();
+        StringObserver observer = container.instance(StringObserver.class).get();
+        Event<Object> event = container.beanManager().getEvent();
+
+        // Only a sync observer exists for Long - the event is delivered immediately and no observer is notified
+        CompletionStage<Long> completionStage = event.select(Long.class).fireAsync(1L);
+        assertEquals(1L, completionStage.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(observer.getEvents().isEmpty());
+
+        event.select(Long.class).fire(2L);
+        assertEquals(1, observer.getEvents().size());
+        assertTrue(observer.getEvents().get(0).startsWith("sync::2"));
+    }
+
     @Singleton
     static class StringObserver {
 
@@ -73,6 +89,10 @@ public class AsyncObserverTest {
             events.add("sync::" + value + "::" + Thread.currentThread().getName());
         }
 
+        void observeSyncLong(@Observes Long value) {
+            events.add("sync::" + value + "::" + Thread.currentThread().getName());
+        }
+
         List<String> getEvents() {
             return events;
         }
@@ -59,6 +59,7 @@ public class JarClassPathElement implements ClassPathElement {
     private final Lock writeLock;
 
     //Closing the jarFile requires the exclusive lock, while reading data from the jarFile requires the shared lock.
+    //JarFile is thread safe, so any number of threads can look up and read entries concurrently.
     private final JarFile jarFile;
     private volatile boolean closed;
 
@@ -81,7 +82,7 @@ public class JarClassPathElement implements ClassPathElement {
     }
 
     @Override
-    public synchronized ClassPathResource getResource(String name) {
+    public ClassPathResource getResource(String name) {
         return withJarFile(new Function<JarFile, ClassPathResource>() {
             @Override
             public ClassPathResource apply(JarFile jarFile) {
@@ -120,10 +121,10 @@ public class JarClassPathElement implements ClassPathElement {
                                 public byte[] apply(JarFile jarFile) {
                                     try {
                                         try {
-                                            return readStreamContents(jarFile.getInputStream(res));
+                                            return readEntryContents(jarFile, res);
                                         } catch (InterruptedIOException e) {
                                             //if we are interrupted reading data we finish the op, then just re-interrupt the thread state
-                                            byte[] bytes = readStreamContents(jarFile.getInputStream(res));
+                                            byte[] bytes = readEntryContents(jarFile, res);
                                             Thread.currentThread().interrupt();
                                             return bytes;
                                         }
@@ -166,7 +167,7 @@ public class JarClassPathElement implements ClassPathElement {
     }
 
     @Override
-    public synchronized Set<String> getProvidedResources() {
+    public Set<String> getProvidedResources() {
         return withJarFile((new Function<JarFile, Set<String>>() {
             @Override
             public Set<String> apply(JarFile jarFile) {
@@ -243,6 +244,27 @@ public class JarClassPathElement implements ClassPathElement {
         }
     }
 
+    private static byte[] readEntryContents(JarFile jarFile, JarEntry entry) throws IOException {
+        long size = entry.getSize();
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            return readStreamContents(jarFile.getInputStream(entry));
+        }
+        //the size is known from the central directory, so read straight into an array of the right size
+        try (InputStream inputStream = jarFile.getInputStream(entry)) {
+            byte[] data = new byte[(int) size];
+            int pos = 0;
+            int r;
+            while (pos < data.length && (r = inputStream.read(data, pos, data.length - pos)) > 0) {
+                pos += r;
+            }
+            if (pos != data.length || inputStream.read() != -1) {
+                //the entry does not match its declared size, fall back to reading it fully
+                return readStreamContents(jarFile.getInputStream(entry));
+            }
+            return data;
+        }
+    }
+
     public static byte[] readStreamContents(InputStream inputStream) throws IOException {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
             byte[] buf = new byte[10000];
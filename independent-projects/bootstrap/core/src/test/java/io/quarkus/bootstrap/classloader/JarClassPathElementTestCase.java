@@ -0,0 +1,64 @@
+package io.quarkus.bootstrap.classloader;
+
+import io.quarkus.bootstrap.classloading.ClassPathResource;
+import io.quarkus.bootstrap.classloading.JarClassPathElement;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JarClassPathElementTestCase {
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < 100; i++) {
+            jar.add(new StringAsset(content(i)), "res/" + i + ".txt");
+        }
+        Path path = Files.createTempFile("test", "quarkus-test.jar");
+        jar.as(ZipExporter.class).exportTo(path.toFile(), true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (JarClassPathElement element = new JarClassPathElement(path)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int i = 0; i < 100; i++) {
+                            ClassPathResource resource = element.getResource("res/" + i + ".txt");
+                            Assertions.assertNotNull(resource);
+                            Assertions.assertEquals(content(i), new String(resource.getData(), StandardCharsets.UTF_8));
+                        }
+                        Assertions.assertNull(element.getResource("res/missing.txt"));
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static String content(int i) {
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j <= i; j++) {
+            sb.append("line ").append(j).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -10,14 +11,22 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
+    public static final String QUARKUS_PRELOAD_CLASSES_LST = "quarkus/preload-classes.lst";
+    /**
+     * If set, the names of the classes loaded by the application class loader are written to the given file when the
+     * JVM exits, and {@link #QUARKUS_PRELOAD_CLASSES_LST} is ignored.
+     */
+    public static final String RECORD_LOADED_CLASSES_SYSTEM_PROPERTY = "quarkus.runner.record-loaded-classes";
 
     public static void main(String... args) throws Throwable {
         System.setProperty("java.util.logging.manager", org.jboss.logmanager.LogManager.class.getName());
@@ -42,6 +51,15 @@ public class QuarkusEntryPoint {
                     24_576)) {
                 app = SerializedApplication.read(in, appRoot);
             }
+            String recordLoadedClasses = System.getProperty(RECORD_LOADED_CLASSES_SYSTEM_PROPERTY);
+            if (recordLoadedClasses != null) {
+                recordLoadedClasses(app.getRunnerClassLoader(), Paths.get(recordLoadedClasses));
+            } else {
+                Path preloadClasses = appRoot.resolve(QUARKUS_PRELOAD_CLASSES_LST);
+                if (Files.exists(preloadClasses)) {
+                    preloadClasses(app.getRunnerClassLoader(), preloadClasses);
+                }
+            }
             try {
                 Thread.currentThread().setContextClassLoader(app.getRunnerClassLoader());
                 Class<?> mainClass = app.getRunnerClassLoader().loadClass(app.getMainClass());
@@ -52,6 +70,48 @@ public class QuarkusEntryPoint {
         }
     }
 
+    private static void recordLoadedClasses(RunnerClassLoader loader, Path target) {
+        loader.recordLoadedClasses();
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Files.write(target, loader.getLoadedClasses(), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    System.err.println("Failed to write the loaded classes to " + target + ": " + e);
+                }
+            }
+        }, "quarkus-record-loaded-classes"));
+    }
+
+    /**
+     * Loads the classes recorded during the training run in a background thread, so that the main thread finds most
+     * of them already defined. Classes are only loaded, not initialized, and any failure is ignored as the main thread
+     * will load the class again and report the problem if needed.
+     */
+    private static void preloadClasses(RunnerClassLoader loader, Path classList) {
+        Thread preloader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try (BufferedReader reader = Files.newBufferedReader(classList, StandardCharsets.UTF_8)) {
+                    String className;
+                    while ((className = reader.readLine()) != null) {
+                        if (className.isEmpty()) {
+                            continue;
+                        }
+                        try {
+                            Class.forName(className, false, loader);
+                        } catch (ClassNotFoundException | LinkageError ignored) {
+                        }
+                    }
+                } catch (IOException ignored) {
+                }
+            }
+        }, "quarkus-class-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
     private static void doReaugment(Path appRoot) throws IOException, ClassNotFoundException, IllegalAccessException,
             InvocationTargetException, NoSuchMethodException {
         try (ObjectInputStream in = new ObjectInputStream(
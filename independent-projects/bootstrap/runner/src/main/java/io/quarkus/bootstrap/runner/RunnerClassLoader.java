@@ -6,7 +6,9 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Classloader used with the fast-jar package type.
@@ -40,6 +42,9 @@ public final class RunnerClassLoader extends ClassLoader {
     //Protected by synchronization on the above field, as they are related.
     private boolean postBootPhase = false;
 
+    //Only set during a training run, see QuarkusEntryPoint
+    private volatile Queue<String> loadedClasses;
+
     static {
         registerAsParallelCapable();
     }
@@ -97,7 +102,12 @@ public final class RunnerClassLoader extends ClassLoader {
                         continue;
                     }
                     definePackage(packageName, resources);
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Class<?> clazz = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Queue<String> loadedClasses = this.loadedClasses;
+                    if (loadedClasses != null) {
+                        loadedClasses.add(name);
+                    }
+                    return clazz;
                 }
             }
         }
@@ -266,6 +276,21 @@ public final class RunnerClassLoader extends ClassLoader {
         }
     }
 
+    /**
+     * Start recording the names of the classes defined by this class loader, in the order they are loaded.
+     */
+    void recordLoadedClasses() {
+        loadedClasses = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * @return the names of the classes defined since {@link #recordLoadedClasses()} was called
+     */
+    List<String> getLoadedClasses() {
+        Queue<String> loadedClasses = this.loadedClasses;
+        return loadedClasses == null ? Collections.emptyList() : new ArrayList<>(loadedClasses);
+    }
+
     public void close() {
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
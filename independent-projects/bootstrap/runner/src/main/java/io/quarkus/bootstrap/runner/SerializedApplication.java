@@ -5,6 +5,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
@@ -23,6 +24,7 @@ import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 
 /**
@@ -65,11 +67,19 @@ public class SerializedApplication {
             data.writeUTF(mainClass);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
+            // the jars are independent of each other so they are scanned in parallel, the result is then
+            // written in class path order
+            List<JarInfo> jarInfos;
+            try {
+                jarInfos = classPath.parallelStream().map(SerializedApplication::scanJar).collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jarInfos.get(i));
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -179,26 +189,31 @@ public class SerializedApplication {
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, JarInfo info) throws IOException {
+        if (info.manifestAttributes == null) {
+            out.writeBoolean(false);
+        } else {
+            //write the manifest
+            Attributes ma = info.manifestAttributes;
+            out.writeBoolean(true);
+            writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_TITLE));
+            writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VERSION));
+            writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VENDOR));
+            writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE));
+            writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION));
+            writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
+        }
+        out.writeShort(info.dirs.size());
+        for (String i : info.dirs) {
+            out.writeUTF(i);
+        }
+        return info.fullyIndexedResources;
+    }
+
+    private static JarInfo scanJar(Path jar) {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
-            if (manifest == null) {
-                out.writeBoolean(false);
-            } else {
-                //write the manifest
-                Attributes ma = manifest.getMainAttributes();
-                if (ma == null) {
-                    out.writeBoolean(false);
-                } else {
-                    out.writeBoolean(true);
-                    writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_TITLE));
-                    writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VERSION));
-                    writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VENDOR));
-                    writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE));
-                    writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION));
-                    writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
-                }
-            }
+            Attributes manifestAttributes = manifest == null ? null : manifest.getMainAttributes();
 
             Set<String> dirs = new HashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new HashMap<>();
@@ -245,15 +260,13 @@ public class SerializedApplication {
             if (hasDefaultPackage) {
                 dirs.add("");
             }
-            out.writeShort(dirs.size());
-            for (String i : dirs) {
-                out.writeUTF(i);
-            }
             List<String> result = new ArrayList<>();
             for (List<String> values : fullyIndexedPaths.values()) {
                 result.addAll(values);
             }
-            return result;
+            return new JarInfo(manifestAttributes, dirs, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -311,4 +324,16 @@ public class SerializedApplication {
         }
     }
 
+    private static final class JarInfo {
+
+        final Attributes manifestAttributes;
+        final Set<String> dirs;
+        final List<String> fullyIndexedResources;
+
+        JarInfo(Attributes manifestAttributes, Set<String> dirs, List<String> fullyIndexedResources) {
+            this.manifestAttributes = manifestAttributes;
+            this.dirs = dirs;
+            this.fullyIndexedResources = fullyIndexedResources;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RunnerClassLoaderTestCase {
+
+    @Test
+    public void testLoadedClassesNotRecordedByDefault() throws Exception {
+        Path jar = createJar();
+        try {
+            RunnerClassLoader cl = createClassLoader(jar);
+            try {
+                cl.loadClass(FirstClass.class.getName());
+                Assertions.assertTrue(cl.getLoadedClasses().isEmpty());
+            } finally {
+                cl.close();
+            }
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Test
+    public void testRecordLoadedClasses() throws Exception {
+        Path jar = createJar();
+        try {
+            RunnerClassLoader cl = createClassLoader(jar);
+            try {
+                cl.recordLoadedClasses();
+                Class<?> second = cl.loadClass(SecondClass.class.getName());
+                Assertions.assertNotEquals(SecondClass.class, second);
+                cl.loadClass(FirstClass.class.getName());
+                //already defined, must not be recorded twice
+                cl.loadClass(SecondClass.class.getName());
+                //delegated to the parent, not defined by the runner class loader
+                cl.loadClass(String.class.getName());
+
+                Assertions.assertEquals(Arrays.asList(SecondClass.class.getName(), FirstClass.class.getName()),
+                        cl.getLoadedClasses());
+            } finally {
+                cl.close();
+            }
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    private static Path createJar() throws Exception {
+        Path path = Files.createTempFile("runner-class-loader", ".jar");
+        ShrinkWrap.create(JavaArchive.class)
+                .addClasses(FirstClass.class, SecondClass.class)
+                .as(ZipExporter.class).exportTo(path.toFile(), true);
+        return path;
+    }
+
+    private RunnerClassLoader createClassLoader(Path jar) {
+        JarResource resource = new JarResource(null, jar);
+        Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
+        resourceDirectoryMap.put(FirstClass.class.getPackage().getName().replace('.', '/'),
+                new ClassLoadingResource[] { resource });
+        RunnerClassLoader cl = new RunnerClassLoader(getClass().getClassLoader(), resourceDirectoryMap,
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+        resource.init(cl);
+        return cl;
+    }
+
+    public static class FirstClass {
+    }
+
+    public static class SecondClass {
+    }
+}
@@ -69,14 +69,30 @@ class TemplateImpl implements Template {
 
         @Override
         public Multi<String> createMulti() {
-            return Multi.createFrom().emitter(emitter -> consume(emitter::emit)
-                    .whenComplete((r, f) -> {
-                        if (f == null) {
-                            emitter.complete();
-                        } else {
-                            emitter.fail(f);
-                        }
-                    }));
+            Object chunkSizeAttr = getAttribute(CHUNK_SIZE);
+            int chunkSize = chunkSizeAttr != null ? Integer.parseInt(chunkSizeAttr.toString()) : 0;
+            if (chunkSize <= 0) {
+                return Multi.createFrom().emitter(emitter -> consume(emitter::emit)
+                        .whenComplete((r, f) -> {
+                            if (f == null) {
+                                emitter.complete();
+                            } else {
+                                emitter.fail(f);
+                            }
+                        }));
+            }
+            return Multi.createFrom().emitter(emitter -> {
+                ChunkingConsumer chunks = new ChunkingConsumer(emitter::emit, chunkSize);
+                consume(chunks)
+                        .whenComplete((r, f) -> {
+                            if (f == null) {
+                                chunks.flush();
+                                emitter.complete();
+                            } else {
+                                emitter.fail(f);
+                            }
+                        });
+            });
         }
 
         @Override
@@ -122,6 +138,44 @@ class TemplateImpl implements Template {
 
     }
 
+    /**
+     * Buffers the parts of the rendered template and passes them to the delegate once the chunk size is reached.
+     */
+    static class ChunkingConsumer implements Consumer<String> {
+
+        private final Consumer<String> delegate;
+        private final int chunkSize;
+        private final StringBuilder buffer;
+
+        ChunkingConsumer(Consumer<String> delegate, int chunkSize) {
+            this.delegate = delegate;
+            this.chunkSize = chunkSize;
+            this.buffer = new StringBuilder(chunkSize);
+        }
+
+        @Override
+        public void accept(String part) {
+            if (buffer.length() == 0 && part.length() >= chunkSize) {
+                // No need to copy the part
+                delegate.accept(part);
+                return;
+            }
+            buffer.append(part);
+            if (buffer.length() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.length() > 0) {
+                delegate.accept(buffer.toString());
+                // The buffer is reused for the next chunk
+                buffer.setLength(0);
+            }
+        }
+
+    }
+
     static class DataNamespaceResolver implements NamespaceResolver {
 
         ResolutionContext rootContext;
@@ -27,6 +27,13 @@ public interface TemplateInstance {
      */
     String SELECTED_VARIANT = "selectedVariant";
 
+    /**
+     * Attribute key - the minimal number of characters of an item emitted by {@link #createMulti()}. By default, each part
+     * of the rendered template is emitted as a separate item. If set to a positive value the parts are buffered and emitted
+     * once the limit is reached.
+     */
+    String CHUNK_SIZE = "chunkSize";
+
     /**
      * Set the the root data object. Invocation of this method removes any data set previously by
      * {@link #data(String, Object)}.
@@ -79,6 +86,8 @@ public interface TemplateInstance {
      * Create a new {@link Multi} that can be used to consume chunks of the rendered template. In particular, each item
      * represents a part of the rendered template.
      * <p>
+     * The size of the items can be controlled with the {@link #CHUNK_SIZE} attribute.
+     * <p>
      * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template.
      * 
      * @return a new Multi
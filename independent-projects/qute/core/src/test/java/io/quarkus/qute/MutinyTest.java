@@ -28,6 +28,19 @@ public class MutinyTest {
         assertMulti(multi.transform().byTakingFirstItems(1), "foo");
     }
 
+    @Test
+    public void testCreateMultiChunks() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#each}{it}{/}");
+        List<String> data = Arrays.asList("foo", "foo", "alpha", "b");
+        Multi<String> multi = template.data(data).setAttribute(TemplateInstance.CHUNK_SIZE, 5).createMulti();
+
+        assertMulti(multi, "foofooalphab");
+        assertMulti(multi.transform().byTakingFirstItems(1), "foofoo");
+        assertMulti(multi.transform().byTakingFirstItems(2), "foofooalpha");
+        assertMulti(multi.transform().byTakingFirstItems(3), "foofooalphab");
+    }
+
     @Test
     public void testCreateUni() throws InterruptedException {
         Engine engine = Engine.builder().addDefaults().build();
@@ -13,6 +13,7 @@ import org.jboss.resteasy.reactive.server.model.DynamicFeatures;
 import org.jboss.resteasy.reactive.server.model.Features;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory;
 import org.jboss.resteasy.reactive.spi.BeanFactory;
 
 public class DeploymentInfo {
@@ -32,6 +33,7 @@ public class DeploymentInfo {
     private Function<Object, Object> clientProxyUnwrapper;
     private String applicationPath;
     private List<HandlerChainCustomizer> globalHandlerCustomers = Collections.emptyList();
+    private HandlerMetricsFactory handlerMetricsFactory;
 
     public ResourceInterceptors getInterceptors() {
         return interceptors;
@@ -167,4 +169,13 @@ public class DeploymentInfo {
         this.globalHandlerCustomers = globalHandlerCustomers;
         return this;
     }
+
+    public HandlerMetricsFactory getHandlerMetricsFactory() {
+        return handlerMetricsFactory;
+    }
+
+    public DeploymentInfo setHandlerMetricsFactory(HandlerMetricsFactory handlerMetricsFactory) {
+        this.handlerMetricsFactory = handlerMetricsFactory;
+        return this;
+    }
 }
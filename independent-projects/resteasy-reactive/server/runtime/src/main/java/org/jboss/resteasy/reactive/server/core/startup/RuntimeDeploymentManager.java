@@ -29,6 +29,7 @@ import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
 import org.jboss.resteasy.reactive.server.handlers.ClassRoutingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
+import org.jboss.resteasy.reactive.server.handlers.MeasuringHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResourceLocatorHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResourceRequestFilterHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
@@ -208,6 +209,9 @@ public class RuntimeDeploymentManager {
     private void addRuntimeConfigurableHandlers(RuntimeResource runtimeResource,
             List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers) {
         for (ServerRestHandler serverRestHandler : runtimeResource.getHandlerChain()) {
+            if (serverRestHandler instanceof MeasuringHandler) {
+                serverRestHandler = ((MeasuringHandler) serverRestHandler).getDelegate();
+            }
             if (serverRestHandler instanceof RuntimeConfigurableServerRestHandler) {
                 runtimeConfigurableServerRestHandlers.add((RuntimeConfigurableServerRestHandler) serverRestHandler);
             }
@@ -60,6 +60,7 @@ import org.jboss.resteasy.reactive.server.handlers.FormBodyHandler;
 import org.jboss.resteasy.reactive.server.handlers.InputHandler;
 import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
 import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
+import org.jboss.resteasy.reactive.server.handlers.MeasuringHandler;
 import org.jboss.resteasy.reactive.server.handlers.ParameterHandler;
 import org.jboss.resteasy.reactive.server.handlers.PerRequestInstanceHandler;
 import org.jboss.resteasy.reactive.server.handlers.RequestDeserializeHandler;
@@ -75,6 +76,7 @@ import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
 import org.jboss.resteasy.reactive.server.model.ServerMethodParameter;
 import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -378,6 +380,9 @@ public class RuntimeResourceDeployment {
 
         abortHandlingChain.add(new ResponseWriterHandler(dynamicEntityWriter));
         handlers.add(0, new AbortChainHandler(abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY)));
+        if (info.getHandlerMetricsFactory() != null) {
+            addHandlerMetrics(handlers, clazz, method, info.getHandlerMetricsFactory());
+        }
 
         return new RuntimeResource(method.getHttpMethod(), methodPathTemplate,
                 classPathTemplate,
@@ -389,6 +394,17 @@ public class RuntimeResourceDeployment {
                 pathParameterIndexes, score, sseElementType, clazz.resourceExceptionMapper());
     }
 
+    private void addHandlerMetrics(List<ServerRestHandler> handlers, ResourceClass clazz, ServerResourceMethod method,
+            HandlerMetricsFactory handlerMetricsFactory) {
+        for (int i = 0; i < handlers.size(); i++) {
+            ServerRestHandler handler = handlers.get(i);
+            HandlerMetricsFactory.HandlerMetrics metrics = handlerMetricsFactory.create(clazz, method, handler);
+            if (metrics != null) {
+                handlers.set(i, new MeasuringHandler(handler, metrics));
+            }
+        }
+    }
+
     private boolean isSingleEffectiveWriter(List<MessageBodyWriter<?>> buildTimeWriters) {
         if (buildTimeWriters.size() == 1) { // common case of single writer
             return true;
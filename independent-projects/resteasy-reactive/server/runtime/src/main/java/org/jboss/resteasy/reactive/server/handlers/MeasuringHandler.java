@@ -0,0 +1,36 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory.HandlerMetrics;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Reports the time spent in the delegate handler and whether it suspended the request processing.
+ * <p>
+ * This handler is only added to the handler chain if a
+ * {@link org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory} is set on the deployment.
+ */
+public class MeasuringHandler implements ServerRestHandler {
+
+    private final ServerRestHandler delegate;
+    private final HandlerMetrics metrics;
+
+    public MeasuringHandler(ServerRestHandler delegate, HandlerMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        long start = System.nanoTime();
+        try {
+            delegate.handle(requestContext);
+        } finally {
+            metrics.record(System.nanoTime() - start, requestContext.isSuspended());
+        }
+    }
+
+    public ServerRestHandler getDelegate() {
+        return delegate;
+    }
+}
@@ -12,9 +12,8 @@ import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
-    /**
-     * TODO: this needs a lot of work
-     */
+    private static final String[] EMPTY_PARAMS = new String[0];
+
     private final PathMatcher<List<RequestPath<T>>> requestPaths;
     private final List<RequestPath<T>> templates;
     final int maxParams;
@@ -54,37 +53,26 @@ public class RequestMapper<T> {
         }
 
         List<RequestPath<T>> value = initialMatch.getValue();
+        int stemLength = initialMatch.getMatched().length();
+        //a single array is used for all the candidates, it is only handed out if a candidate actually matches
+        String[] params = maxParams == 0 ? EMPTY_PARAMS : null;
         for (int index = 0; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String name : segment.names) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+            int matchPos = stemLength;
+            URITemplate.TemplateComponent[] components = potentialMatch.template.components;
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent segment = components[i];
+                if (segment.type == URITemplate.Type.LITERAL) {
+                    //make sure the literal text is the same, without allocating
+                    String literal = segment.literalText;
+                    if (!path.regionMatches(matchPos, literal, 0, literal.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                        break;
                     }
+                    matchPos += literal.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -94,29 +82,51 @@ public class RequestMapper<T> {
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
+                    if (params == null) {
+                        params = new String[maxParams];
+                    }
                     params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                } else if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                    Matcher matcher = segment.pattern.matcher(path);
+                    matched = matcher.find(matchPos);
+                    if (!matched) {
+                        break;
+                    }
+                    matchPos = matcher.end();
+                    if (params == null) {
+                        params = new String[maxParams];
+                    }
+                    for (String name : segment.names) {
+                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
+                    }
                 }
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            if (!prefixAllowed && !fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
-            }
-            if (matched && (fullMatch || prefixAllowed)) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
+            if (matched) {
+                boolean fullMatch = matchPos == pathLength;
+                if (!prefixAllowed && !fullMatch) {
+                    //according to the spec every template ends with (/.*)?
+                    prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
+                }
+                if (fullMatch || prefixAllowed) {
+                    if (params == null) {
+                        params = new String[maxParams];
+                    }
+                    String remaining;
+                    if (fullMatch) {
+                        remaining = "";
                     } else {
-                        remaining = path.substring(matchPos);
+                        if (matchPos == 1) {
+                            remaining = path;
+                        } else {
+                            remaining = path.substring(matchPos);
+                        }
                     }
+                    return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+            }
+            //clear any values captured by this candidate so they cannot leak into the next one
+            for (int i = 0; i < paramCount; ++i) {
+                params[i] = null;
             }
         }
         return null;
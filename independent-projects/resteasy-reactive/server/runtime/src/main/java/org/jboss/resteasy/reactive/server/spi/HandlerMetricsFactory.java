@@ -0,0 +1,34 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+
+/**
+ * Allows to measure the handlers of the resource method handler chains.
+ * <p>
+ * The factory is only consulted when the deployment is created. If no factory is set on the deployment, the handler
+ * chains are left as is and the measurement has no cost.
+ */
+public interface HandlerMetricsFactory {
+
+    /**
+     *
+     * @param resourceClass
+     * @param method
+     * @param handler
+     * @return the metrics the given handler reports to, or {@code null} if the handler should not be measured
+     */
+    HandlerMetrics create(ResourceClass resourceClass, ServerResourceMethod method, ServerRestHandler handler);
+
+    interface HandlerMetrics {
+
+        /**
+         *
+         * @param durationNanos the time spent in {@link ServerRestHandler#handle(Object)}
+         * @param suspended whether the handler suspended the request processing
+         */
+        void record(long durationNanos, boolean suspended);
+
+    }
+
+}
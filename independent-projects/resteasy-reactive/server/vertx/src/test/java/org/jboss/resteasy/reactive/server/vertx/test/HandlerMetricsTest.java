@@ -0,0 +1,66 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.restassured.RestAssured;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class HandlerMetricsTest {
+
+    static final Map<String, AtomicInteger> INVOCATIONS = new ConcurrentHashMap<>();
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClass(HelloResource.class);
+                }
+            })
+            .setHandlerMetricsFactory(new HandlerMetricsFactory() {
+                @Override
+                public HandlerMetrics create(ResourceClass resourceClass, ServerResourceMethod method,
+                        ServerRestHandler handler) {
+                    if (!(handler instanceof InvocationHandler)) {
+                        return null;
+                    }
+                    AtomicInteger invocations = INVOCATIONS.computeIfAbsent(
+                            resourceClass.getClassName() + "#" + method.getName(), k -> new AtomicInteger());
+                    return new HandlerMetrics() {
+                        @Override
+                        public void record(long durationNanos, boolean suspended) {
+                            assertTrue(durationNanos >= 0);
+                            invocations.incrementAndGet();
+                        }
+                    };
+                }
+            });
+
+    @Test
+    public void testInvocationIsMeasured() {
+        RestAssured.get("/hello?name=Stu")
+                .then()
+                .body(equalTo("hello Stu"));
+        RestAssured.get("/hello?name=Foo")
+                .then()
+                .body(equalTo("hello Foo"));
+        assertEquals(2, INVOCATIONS.get(HelloResource.class.getName() + "#hello").get());
+    }
+
+}
@@ -54,6 +54,7 @@ import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExc
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveParamConverterScanner;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerStringMessageBodyHandler;
+import org.jboss.resteasy.reactive.server.spi.HandlerMetricsFactory;
 import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxHandler;
 import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
 import org.jboss.resteasy.reactive.spi.BeanFactory;
@@ -81,6 +82,8 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
 
     private Consumer<List<LogRecord>> assertLogRecords;
 
+    private HandlerMetricsFactory handlerMetricsFactory;
+
     private Timer timeoutTimer;
     private volatile TimerTask timeoutTask;
     private InMemoryLogHandler inMemoryLogHandler = new InMemoryLogHandler((r) -> false);
@@ -131,6 +134,11 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         return this;
     }
 
+    public ResteasyReactiveUnitTest setHandlerMetricsFactory(HandlerMetricsFactory handlerMetricsFactory) {
+        this.handlerMetricsFactory = handlerMetricsFactory;
+        return this;
+    }
+
     public ResteasyReactiveUnitTest assertLogRecords(Consumer<List<LogRecord>> assertLogRecords) {
         if (this.assertLogRecords != null) {
             throw new IllegalStateException("Don't set the a log record assertion twice"
@@ -266,6 +274,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 .setCtxResolvers(
                         ResteasyReactiveContextResolverScanner.createContextResolvers(index, applicationScanningResult))
                 .setLocatableResourceClasses(subResourceClasses)
+                .setHandlerMetricsFactory(handlerMetricsFactory)
                 .setApplicationSupplier(new Supplier<Application>() {
                     @Override
                     public Application get() {
@@ -287,7 +296,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 closeable -> closeTasks.add(closeable), new VertxRequestContextFactory(), ThreadSetupAction.NOOP, "/");
         Deployment deployment = runtimeDeploymentManager.deploy();
         RestInitialHandler initialHandler = new RestInitialHandler(deployment);
-        router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
+        route = router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
 
     }
 
@@ -306,6 +315,11 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         if (deploymentDir != null) {
             deleteDirectory(deploymentDir);
         }
+        if (route != null) {
+            // the router is shared by all the tests
+            route.remove();
+            route = null;
+        }
 
     }
 
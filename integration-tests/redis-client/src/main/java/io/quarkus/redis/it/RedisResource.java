@@ -1,6 +1,7 @@
 package io.quarkus.redis.it;
 
 import java.util.Arrays;
+import java.util.List;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -12,6 +13,8 @@ import javax.ws.rs.PathParam;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 @Path("/quarkus-redis")
@@ -37,6 +40,15 @@ public class RedisResource {
         this.redisClient.set(Arrays.asList(key, value));
     }
 
+    @POST
+    @Path("/sync/batch/{key}")
+    public String batchSync(@PathParam("key") String key, String value) {
+        List<Response> responses = redisClient.batch(Arrays.asList(
+                Request.cmd(Command.SET).arg(key).arg(value),
+                Request.cmd(Command.GET).arg(key)));
+        return responses.get(1).toString();
+    }
+
     // reactive
     @GET
     @Path("/reactive/{key}")
@@ -54,4 +66,14 @@ public class RedisResource {
                 .map(response -> null);
     }
 
+    @POST
+    @Path("/reactive/batch/{key}")
+    public Uni<String> batchReactive(@PathParam("key") String key, String value) {
+        return reactiveRedisClient
+                .batch(Arrays.asList(
+                        io.vertx.mutiny.redis.client.Request.cmd(io.vertx.mutiny.redis.client.Command.SET).arg(key).arg(value),
+                        io.vertx.mutiny.redis.client.Request.cmd(io.vertx.mutiny.redis.client.Command.GET).arg(key)))
+                .map(responses -> responses.get(1).toString());
+    }
+
 }
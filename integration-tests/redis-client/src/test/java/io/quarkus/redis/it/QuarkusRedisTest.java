@@ -12,6 +12,8 @@ class QuarkusRedisTest {
     static final String SYNC_VALUE = "sync-value";
     static final String REACTIVE_KEY = "reactive-key";
     static final String REACTIVE_VALUE = "reactive-value";
+    static final String BATCH_KEY = "batch-key";
+    static final String BATCH_VALUE = "batch-value";
 
     @Test
     public void sync() {
@@ -58,4 +60,23 @@ class QuarkusRedisTest {
                 .statusCode(200)
                 .body(CoreMatchers.is(REACTIVE_VALUE));
     }
+
+    @Test
+    public void batch() {
+        RestAssured.given()
+                .body(BATCH_VALUE)
+                .when()
+                .post("/quarkus-redis/sync/batch/" + BATCH_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(BATCH_VALUE));
+
+        RestAssured.given()
+                .body(BATCH_VALUE + "-reactive")
+                .when()
+                .post("/quarkus-redis/reactive/batch/" + BATCH_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(BATCH_VALUE + "-reactive"));
+    }
 }